@@ -0,0 +1,82 @@
+package com.trade_ham.domain.product.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.trade_ham.domain.product.entity.ProductEntity;
+import com.trade_ham.domain.product.entity.ProductStatus;
+import com.trade_ham.global.common.pagination.CursorResponse;
+import com.trade_ham.global.common.response.ApiResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+상품 목록 응답 비용
+- mapEntities: ProductEntity -> ProductResponseDTO 변환
+- serializeList: ApiResponse<List<ProductResponseDTO>> JSON 직렬화
+- serializePage: ApiResponse<CursorResponse<ProductResponseDTO>> JSON 직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductResponseBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private List<ProductEntity> entities;
+    private List<ProductResponseDTO> responses;
+    private CursorResponse<ProductResponseDTO> page;
+
+    @Setup
+    public void setUp() {
+        entities = new ArrayList<>(size);
+        responses = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= size; id++) {
+            entities.add(ProductEntity.builder()
+                    .productId(id)
+                    .name("상품 " + id)
+                    .description("중고 상품 설명입니다. 상태 좋아요. " + id)
+                    .price(10000L * id)
+                    .status(ProductStatus.SELL)
+                    .build());
+            responses.add(new ProductResponseDTO(id, "상품 " + id, "중고 상품 설명입니다. 상태 좋아요. " + id,
+                    10000L * id, ProductStatus.SELL, id * 3, id, now.minusMinutes(id)));
+        }
+        page = CursorResponse.of(responses, size, product -> String.valueOf(product.getProductId()));
+    }
+
+    @Benchmark
+    public List<ProductResponseDTO> mapEntities() {
+        return entities.stream()
+                .map(ProductResponseDTO::new)
+                .toList();
+    }
+
+    @Benchmark
+    public String serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(ApiResponse.success(responses));
+    }
+
+    @Benchmark
+    public String serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(ApiResponse.success(page));
+    }
+}
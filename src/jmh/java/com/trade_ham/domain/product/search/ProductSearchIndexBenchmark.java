@@ -0,0 +1,90 @@
+package com.trade_ham.domain.product.search;
+
+import com.trade_ham.domain.product.dto.ProductResponseDTO;
+import com.trade_ham.domain.product.entity.ProductEntity;
+import com.trade_ham.domain.product.entity.ProductStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+카탈로그 크기별 검색 지연 시간 비교
+- indexSearch: 역색인 검색
+- linearScan: 기존 LIKE '%keyword%' 와 같은 방식의 전체 스캔
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "아이폰", "갤럭시", "맥북", "노트북", "자전거", "의자", "책상", "모니터", "키보드", "마우스",
+            "iphone", "galaxy", "macbook", "monitor", "keyboard", "중고", "새상품", "급처", "택포", "미개봉"
+    };
+
+    @Param({"1000", "10000", "100000"})
+    private int catalogSize;
+
+    @Param({"맥북", "keyboard", "미개봉 급처"})
+    private String keyword;
+
+    private ProductSearchIndex index;
+    private List<ProductResponseDTO> catalog;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        catalog = new ArrayList<>(catalogSize);
+        for (long id = 1; id <= catalogSize; id++) {
+            catalog.add(new ProductResponseDTO(ProductEntity.builder()
+                    .productId(id)
+                    .name(words(random, 3))
+                    .description(words(random, 12))
+                    .price(1000L * random.nextInt(1000))
+                    .status(ProductStatus.SELL)
+                    .build()));
+        }
+        index = new ProductSearchIndex();
+        index.rebuild(catalog);
+    }
+
+    @Benchmark
+    public List<ProductResponseDTO> indexSearch() {
+        return index.search(keyword, 0, 20);
+    }
+
+    @Benchmark
+    public List<ProductResponseDTO> linearScan() {
+        String normalized = keyword.toLowerCase(Locale.ROOT);
+        List<ProductResponseDTO> result = new ArrayList<>();
+        for (ProductResponseDTO product : catalog) {
+            if (product.getName().toLowerCase(Locale.ROOT).contains(normalized)
+                    || product.getDescription().toLowerCase(Locale.ROOT).contains(normalized)) {
+                result.add(product);
+            }
+        }
+        return result.subList(0, Math.min(20, result.size()));
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
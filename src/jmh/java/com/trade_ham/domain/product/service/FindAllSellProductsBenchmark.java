@@ -0,0 +1,86 @@
+package com.trade_ham.domain.product.service;
+
+import com.trade_ham.domain.product.dto.ProductResponseDTO;
+import com.trade_ham.domain.product.entity.ProductStatus;
+import com.trade_ham.domain.product.repository.ProductRepository;
+import com.trade_ham.global.common.pagination.CursorResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/*
+SellProductService.findAllSellProducts 의 서비스 내부 처리 비용
+DB/레디스 대신 메모리 데이터를 사용해서 페이지 자르기, 커서 생성, 좋아요 여부 반영만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindAllSellProductsBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private SellProductService sellProductService;
+
+    @Setup
+    public void setUp() {
+        List<ProductResponseDTO> catalog = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= 1000; id++) {
+            catalog.add(new ProductResponseDTO(id, "상품 " + id, "설명 " + id, 1000L * id,
+                    ProductStatus.SELL, id, id, now.minusSeconds(id)));
+        }
+
+        Set<Long> likedProductIds = Set.of(2L, 4L, 8L, 16L);
+        ProductLikeStatusResolver likeStatusResolver = new ProductLikeStatusResolver(null) {
+            @Override
+            public Map<Long, Boolean> resolve(Long userId, Collection<Long> productIds) {
+                Map<Long, Boolean> likeStatus = new LinkedHashMap<>();
+                productIds.forEach(productId -> likeStatus.put(productId, likedProductIds.contains(productId)));
+                return likeStatus;
+            }
+        };
+
+        sellProductService = new SellProductService(inMemoryRepository(catalog), null, likeStatusResolver,
+                null, null, null, null);
+    }
+
+    @Benchmark
+    public CursorResponse<ProductResponseDTO> firstPage() {
+        return sellProductService.findAllSellProducts(1L, null, pageSize);
+    }
+
+    // findFirstPageByStatus 만 메모리 목록으로 응답하는 저장소
+    private static ProductRepository inMemoryRepository(List<ProductResponseDTO> catalog) {
+        return (ProductRepository) Proxy.newProxyInstance(
+                ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findFirstPageByStatus")) {
+                        Pageable pageable = (Pageable) args[1];
+                        return catalog.subList(0, pageable.getPageSize()).stream()
+                                .map(product -> new ProductResponseDTO(product.getProductId(), product.getName(),
+                                        product.getDescription(), product.getPrice(), product.getStatus(),
+                                        product.getView(), product.getLike(), product.getCreatedAt()))
+                                .toList();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,75 @@
+package com.trade_ham.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/*
+JWT 생성/검증 비용
+- createAccessToken: 로그인/재발급 시 토큰 생성
+- authenticateRequest: JWTFilter 가 요청 한 건마다 수행하는 검증 과정 (파서 재사용 + 1회 파싱)
+- authenticateRequestCached: AccessTokenCache 적중 시 (서명 검증 생략)
+- authenticateRequestLegacy: 이전 방식 (클레임마다 파서를 새로 만들어 4회 파싱), 비교 기준
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JWTUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JWTUtil jwtUtil;
+    private AccessTokenCache accessTokenCache;
+    private SecretKey secretKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil(SECRET);
+        accessTokenCache = new AccessTokenCache(jwtUtil, new SimpleMeterRegistry(), true, 10_000);
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        accessToken = jwtUtil.createJwt("access", 1L, "user@test.com", "USER", 600000L);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtil.createJwt("access", 1L, "user@test.com", "USER", 600000L);
+    }
+
+    @Benchmark
+    public void authenticateRequest(Blackhole blackhole) {
+        JwtClaims claims = jwtUtil.parseClaims(accessToken);
+        blackhole.consume(claims.isCategory("access"));
+        blackhole.consume(claims.id());
+        blackhole.consume(claims.role());
+    }
+
+    @Benchmark
+    public void authenticateRequestCached(Blackhole blackhole) {
+        JwtClaims claims = accessTokenCache.parseClaims(accessToken);
+        blackhole.consume(claims.isCategory("access"));
+        blackhole.consume(claims.id());
+        blackhole.consume(claims.role());
+    }
+
+    @Benchmark
+    public void authenticateRequestLegacy(Blackhole blackhole) {
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload().getExpiration().before(new Date()));
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload().get("category", String.class));
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload().get("id", Long.class));
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload().get("role", String.class));
+    }
+}
@@ -0,0 +1,14 @@
+package com.trade_ham.domain.auth.dto;
+
+import com.trade_ham.global.common.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 로그인 처리에 필요한 사용자 식별 정보만 담는 DTO (JPQL 생성자 표현식으로 조회, 캐시에 보관)
+@Getter
+@AllArgsConstructor
+public class UserIdentity {
+    private Long id;
+    private String nickname;
+    private Role role;
+}
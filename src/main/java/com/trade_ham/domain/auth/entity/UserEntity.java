@@ -7,12 +7,14 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Setter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_provider_email", columnNames = {"provider", "email"}))
 public class UserEntity {
 
     @Id
@@ -35,6 +37,10 @@ public class UserEntity {
     @OneToMany(mappedBy = "buyer")
     private List<ProductEntity> purchasedProductEntities = new ArrayList<>();
 
+    // 알림 읽음 watermark, 이 시각 이전에 생성된 알림은 읽은 것으로 본다
+    @Column(name = "notification_read_at")
+    private LocalDateTime notificationReadAt;
+
     // 추후 따로 받는다.
     private String acount; // 계좌번호
     private String realname; // 실제이름
@@ -1,14 +0,0 @@
-package com.trade_ham.domain.auth.repository;
-
-
-
-import com.trade_ham.domain.auth.entity.RefreshEntity;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.transaction.annotation.Transactional;
-
-public interface RefreshRepository extends JpaRepository<RefreshEntity, Long> {
-    Boolean existsByRefresh(String refresh);
-
-    @Transactional
-    void deleteByRefresh(String refresh);
-}
@@ -1,12 +1,48 @@
 package com.trade_ham.domain.auth.repository;
 
+import com.trade_ham.domain.auth.dto.UserIdentity;
 import com.trade_ham.domain.auth.entity.UserEntity;
 import com.trade_ham.global.common.enums.Provider;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
-    UserEntity findByProviderAndEmail(Provider provider, String email);
+    // uk_user_provider_email 인덱스로 한 번에 조회, 엔티티는 만들지 않는다
+    @Query("SELECT new com.trade_ham.domain.auth.dto.UserIdentity(u.id, u.nickname, u.role) " +
+            "FROM UserEntity u WHERE u.provider = :provider AND u.email = :email")
+    Optional<UserIdentity> findIdentityByProviderAndEmail(@Param("provider") Provider provider, @Param("email") String email);
+
+    /*
+    신규 사용자 등록, 이미 있으면 아무것도 바꾸지 않고 기존 id 를 LAST_INSERT_ID 로 남긴다.
+    같은 트랜잭션(커넥션)에서 lastInsertId() 로 id 를 읽는다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_entity (provider, email, nickname, profile_image, role) " +
+            "VALUES (:provider, :email, :nickname, :profileImage, :role) " +
+            "ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id)", nativeQuery = true)
+    int upsertByProviderAndEmail(@Param("provider") String provider,
+                                 @Param("email") String email,
+                                 @Param("nickname") String nickname,
+                                 @Param("profileImage") String profileImage,
+                                 @Param("role") String role);
+
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    Long lastInsertId();
+
+    @Query("SELECT u.notificationReadAt FROM UserEntity u WHERE u.id = :userId")
+    Optional<LocalDateTime> findNotificationReadAt(@Param("userId") Long userId);
+
+    // 알림 읽음 처리, 알림 row 대신 사용자 row 한 건만 갱신 (watermark 는 앞으로만 이동)
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.notificationReadAt = :readAt " +
+            "WHERE u.id = :userId AND (u.notificationReadAt IS NULL OR u.notificationReadAt < :readAt)")
+    int updateNotificationReadAt(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
 }
@@ -0,0 +1,27 @@
+package com.trade_ham.domain.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+레거시 refresh_entity 테이블 제거
+refresh 토큰은 레디스(RedisRefreshService)에서만 관리하고 이 테이블에는 더 이상 아무것도 쓰지 않는다.
+엔티티를 지워도 ddl-auto 는 테이블을 지우지 않으므로 시작할 때 한 번 DROP 한다 (이미 없으면 아무 일도 없음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyRefreshTableCleanup implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS refresh_entity");
+        log.debug("legacy refresh_entity table dropped if present");
+    }
+}
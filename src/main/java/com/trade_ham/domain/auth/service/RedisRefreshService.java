@@ -1,61 +1,94 @@
 package com.trade_ham.domain.auth.service;
 
+import com.trade_ham.security.jwt.JwtClaims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
+/*
+refresh 토큰 저장소 (레디스 단일 저장소)
+refresh:{userId}:{familyId} = 현재 유효한 토큰 id(jti), TTL = 토큰 만료 시간
+
+- 로그인할 때마다 새 계열(family)을 시작한다.
+- 재발급 시 토큰 id 를 원자적으로 교체한다(회전).
+- 이미 교체된 이전 토큰이 다시 제시되면 탈취로 보고 계열 전체를 폐기한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RedisRefreshService {
 
+    public static final String REFRESH_KEY_PREFIX = "refresh:";
+
+    private static final String REVOKE = "";
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> refreshRotateScript;
 
-    // 리프레시 토큰 저장 (TTL 설정)
-    public void saveRefreshToken(Long id, String refreshToken, long expirationTimeInMillis) {
-        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-        valueOperations.set(String.valueOf(id), refreshToken, expirationTimeInMillis, TimeUnit.MILLISECONDS);
-    }
-
-    public String getRefreshToken(String userName) {
-        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-        return valueOperations.get(userName);
-    }
-
-    public void deleteRefreshToken(Long id) {
-        log.info(String.valueOf(id));
-        redisTemplate.delete(String.valueOf(id));
-    }
-
-    public boolean hasValidRefreshToken(String userName, String refreshToken) {
-        String storedToken = getRefreshToken(userName);
-        return storedToken != null && storedToken.equals(refreshToken);
-    }
-
-// 밀로코드
-//    // 리프레시 토큰 저장 (TTL 설정)
-//    public void saveRefreshToken(Long userId, String refreshToken, long expirationTimeInMillis) {
-//        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-//        valueOperations.set(String.valueOf(userId), refreshToken, expirationTimeInMillis, TimeUnit.MILLISECONDS);
-//    }
-//
-//    public String getRefreshToken(Long userId) {
-//        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-//        return valueOperations.get(String.valueOf(userId));
-//    }
-//
-//    public void deleteRefreshToken(Long userId) {
-//        log.info(String.valueOf(userId));
-//        redisTemplate.delete(String.valueOf(userId));
-//    }
-//
-//    public boolean hasValidRefreshToken(Long userId, String refreshToken) {
-//        String storedToken = getRefreshToken(userId);
-//        return storedToken != null && storedToken.equals(refreshToken);
-//    }
+    public enum RotationResult {
+        ROTATED, NOT_FOUND, REUSED
+    }
+
+    public static String newTokenId() {
+        return UUID.randomUUID().toString();
+    }
 
+    // 로그인 시 새 계열 시작
+    public void startFamily(Long userId, String familyId, String tokenId, long expirationTimeInMillis) {
+        redisTemplate.opsForValue().set(key(userId, familyId), tokenId, expirationTimeInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 제시된 refresh 토큰이 계열의 현재 토큰인지 확인
+    public boolean isCurrent(JwtClaims claims) {
+        if (!hasFamily(claims)) {
+            return false;
+        }
+        return claims.tokenId().equals(redisTemplate.opsForValue().get(key(claims.id(), claims.familyId())));
+    }
+
+    // 재발급: 현재 토큰 id 를 새 토큰 id 로 교체
+    public RotationResult rotate(JwtClaims claims, String newTokenId, long expirationTimeInMillis) {
+        return execute(claims, newTokenId, expirationTimeInMillis);
+    }
+
+    // 로그아웃: 계열 폐기
+    public RotationResult revoke(JwtClaims claims) {
+        return execute(claims, REVOKE, 0);
+    }
+
+    private RotationResult execute(JwtClaims claims, String newTokenId, long expirationTimeInMillis) {
+        if (!hasFamily(claims)) {
+            return RotationResult.NOT_FOUND;
+        }
+
+        Long result = redisTemplate.execute(
+                refreshRotateScript,
+                List.of(key(claims.id(), claims.familyId())),
+                claims.tokenId(), newTokenId, String.valueOf(expirationTimeInMillis)
+        );
+
+        if (result == null || result == 0) {
+            return RotationResult.NOT_FOUND;
+        }
+        if (result < 0) {
+            log.warn("refresh token reuse detected, family revoked. userId={}, familyId={}", claims.id(), claims.familyId());
+            return RotationResult.REUSED;
+        }
+        return RotationResult.ROTATED;
+    }
+
+    // 계열 정보가 없는 토큰(이전 방식으로 발급된 토큰)은 유효하지 않은 것으로 본다
+    private boolean hasFamily(JwtClaims claims) {
+        return claims.id() != null && claims.tokenId() != null && claims.familyId() != null;
+    }
+
+    private static String key(Long userId, String familyId) {
+        return REFRESH_KEY_PREFIX + userId + ":" + familyId;
+    }
 }
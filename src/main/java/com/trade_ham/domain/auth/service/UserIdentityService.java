@@ -0,0 +1,49 @@
+package com.trade_ham.domain.auth.service;
+
+import com.trade_ham.domain.auth.dto.OAuth2Response;
+import com.trade_ham.domain.auth.dto.UserIdentity;
+import com.trade_ham.domain.auth.repository.UserRepository;
+import com.trade_ham.global.common.enums.Role;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+OAuth2 로그인 사용자 식별
+- 기존 사용자: 유니크 인덱스 조회 1회 (엔티티를 만들지 않는 DTO 프로젝션)
+- 신규 사용자: upsert 1회 + LAST_INSERT_ID 1회 (동시 첫 로그인도 row 는 하나만 생긴다)
+닉네임/권한은 바뀔 수 있으므로 서버 로컬 캐시에 두지 않고 매번 DB 에서 읽는다.
+ */
+@Service
+public class UserIdentityService {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserIdentityService(UserRepository userRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public UserIdentity resolve(OAuth2Response oAuth2Response) {
+        return userRepository.findIdentityByProviderAndEmail(oAuth2Response.getProvider(), oAuth2Response.getEmail())
+                .orElseGet(() -> register(oAuth2Response));
+    }
+
+    // upsert 와 LAST_INSERT_ID 조회는 같은 커넥션에서 실행되어야 하므로 하나의 트랜잭션으로 묶는다
+    private UserIdentity register(OAuth2Response oAuth2Response) {
+        Long id = transactionTemplate.execute(status -> {
+            userRepository.upsertByProviderAndEmail(
+                    oAuth2Response.getProvider().name(),
+                    oAuth2Response.getEmail(),
+                    oAuth2Response.getNickName(),
+                    oAuth2Response.getProfileImage(),
+                    Role.USER.name()
+            );
+            return userRepository.lastInsertId();
+        });
+
+        return new UserIdentity(id, oAuth2Response.getNickName(), Role.USER);
+    }
+}
@@ -11,7 +11,8 @@ import lombok.Setter;
 public class LockerEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "locker_id_generator")
+    @SequenceGenerator(name = "locker_id_generator", sequenceName = "locker_entity_seq", allocationSize = 50)
     @Column(name = "locker_id")
     private Long id;
 
@@ -2,9 +2,25 @@ package com.trade_ham.domain.locker.repository;
 
 import com.trade_ham.domain.locker.entity.LockerEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.List;
 
 public interface LockerRepository extends JpaRepository<LockerEntity, Long> {
-    Optional<LockerEntity> findFirstByLockerStatusTrue();
-}
\ No newline at end of file
+
+    // 사물함 풀 재구성용
+    @Query("SELECT l.id FROM LockerEntity l WHERE l.lockerStatus = true ORDER BY l.id")
+    List<Long> findAvailableIds();
+
+    // 사용 가능한 경우에만 사용 중으로 변경, 변경된 row 수 반환 (0 이면 이미 사용 중)
+    @Modifying
+    @Query("UPDATE LockerEntity l SET l.lockerStatus = false WHERE l.id = :id AND l.lockerStatus = true")
+    int occupy(@Param("id") Long id);
+
+    // 사용 중인 경우에만 사용 가능으로 변경
+    @Modifying
+    @Query("UPDATE LockerEntity l SET l.lockerStatus = true WHERE l.id = :id AND l.lockerStatus = false")
+    int release(@Param("id") Long id);
+}
@@ -0,0 +1,93 @@
+package com.trade_ham.domain.locker.service;
+
+import com.trade_ham.domain.locker.entity.LockerEntity;
+import com.trade_ham.domain.locker.repository.LockerRepository;
+import com.trade_ham.global.common.exception.ErrorCode;
+import com.trade_ham.global.common.exception.ResourceNotFoundException;
+import com.trade_ham.global.common.transaction.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/*
+사물함 할당 풀
+레디스 리스트(locker:free)에 사용 가능한 사물함 id 를 담아두고 LPOP 으로 하나씩 꺼낸다.
+LPOP 은 원자적이므로 동시에 요청해도 같은 id 를 두 번 받지 않는다.
+
+DB 는 조건부 UPDATE (locker_status = true 인 경우에만 false) 로 한 번 더 확인한다.
+리스트에 이미 사용 중인 id 가 남아 있어도 (재구성 중 경합 등) 건너뛰고 다음 id 를 꺼낸다.
+
+- 할당한 트랜잭션이 롤백되면 id 를 다시 리스트에 넣는다.
+- 반납은 커밋 후 리스트에 넣는다.
+- 애플리케이션 시작 시 LockerEntity 기준으로 리스트를 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LockerAllocator {
+
+    public static final String FREE_LOCKERS_KEY = "locker:free";
+    private static final String REBUILD_KEY = "locker:free:rebuild";
+
+    private final LockerRepository lockerRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 호출한 트랜잭션 안에서 사물함 하나를 사용 중으로 바꾸고 반환
+    @Transactional(propagation = Propagation.MANDATORY)
+    public LockerEntity allocate() {
+        while (true) {
+            String popped = redisTemplate.opsForList().leftPop(FREE_LOCKERS_KEY);
+            if (popped == null) {
+                throw new ResourceNotFoundException(ErrorCode.LOCKER_NOT_AVAILABLE);
+            }
+
+            Long lockerId = Long.valueOf(popped);
+            if (lockerRepository.occupy(lockerId) == 1) {
+                pushBackOnRollback(lockerId);
+                return lockerRepository.findById(lockerId)
+                        .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.LOCKER_NOT_AVAILABLE));
+            }
+
+            log.debug("skip stale locker id in free list. lockerId={}", lockerId);
+        }
+    }
+
+    // 물품 수령/취소 시 사물함 반납
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Long lockerId) {
+        if (lockerRepository.release(lockerId) == 0) {
+            return;
+        }
+
+        TransactionCallbacks.afterCommit(() ->
+                redisTemplate.opsForList().rightPush(FREE_LOCKERS_KEY, String.valueOf(lockerId)));
+    }
+
+    // DB 기준으로 리스트 재구성, 임시 키에 만든 뒤 RENAME 으로 교체
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        List<String> lockerIds = lockerRepository.findAvailableIds().stream()
+                .map(String::valueOf)
+                .toList();
+
+        if (lockerIds.isEmpty()) {
+            redisTemplate.delete(FREE_LOCKERS_KEY);
+            return 0;
+        }
+
+        redisTemplate.delete(REBUILD_KEY);
+        redisTemplate.opsForList().rightPushAll(REBUILD_KEY, lockerIds);
+        redisTemplate.rename(REBUILD_KEY, FREE_LOCKERS_KEY);
+        return lockerIds.size();
+    }
+
+    private void pushBackOnRollback(Long lockerId) {
+        TransactionCallbacks.afterRollback(() ->
+                redisTemplate.opsForList().rightPush(FREE_LOCKERS_KEY, String.valueOf(lockerId)));
+    }
+}
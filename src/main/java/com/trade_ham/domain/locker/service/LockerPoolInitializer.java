@@ -0,0 +1,22 @@
+package com.trade_ham.domain.locker.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+// 애플리케이션 시작 시 사용 가능한 사물함으로 할당 풀 구성
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LockerPoolInitializer implements ApplicationRunner {
+
+    private final LockerAllocator lockerAllocator;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int size = lockerAllocator.rebuild();
+        log.info("locker pool rebuilt with {} available lockers", size);
+    }
+}
@@ -1,15 +1,19 @@
 package com.trade_ham.domain.mypage.controller;
 
 import com.trade_ham.domain.auth.dto.CustomOAuth2User;
+import com.trade_ham.domain.mypage.dto.PurchaseHistoryResponseDTO;
+import com.trade_ham.domain.mypage.dto.SalesHistoryResponseDTO;
+import com.trade_ham.domain.mypage.dto.TradeSummaryResponseDTO;
 import com.trade_ham.domain.mypage.service.MyPageService;
-import com.trade_ham.domain.product.entity.ProductEntity;
 import com.trade_ham.domain.product.dto.ProductResponseDTO;
 import com.trade_ham.domain.product.service.ViewLikeProductService;
+import com.trade_ham.global.common.pagination.CursorResponse;
 import com.trade_ham.global.common.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -32,16 +36,34 @@ public class MyPageController {
 
     // 구매자의 구매 내역 조회
     @GetMapping("/purchase")
-    public ApiResponse<List<ProductEntity>> findProductsByBuyer(@AuthenticationPrincipal CustomOAuth2User oAuth2User) {
+    public ApiResponse<CursorResponse<PurchaseHistoryResponseDTO>> findProductsByBuyer(@AuthenticationPrincipal CustomOAuth2User oAuth2User,
+                                                                                       @RequestParam(required = false) String cursor,
+                                                                                       @RequestParam(required = false) Integer size) {
         Long buyerId = oAuth2User.getId();
-        List<ProductEntity> productEntities = myPageService.findProductsByBuyer(buyerId);
+        CursorResponse<PurchaseHistoryResponseDTO> purchases = myPageService.findPurchaseHistory(buyerId, cursor, size);
 
-        return ApiResponse.success(productEntities);
+        return ApiResponse.success(purchases);
+    }
+
+    // 판매자의 거래(판매 완료) 내역 조회
+    @GetMapping("/sales")
+    public ApiResponse<CursorResponse<SalesHistoryResponseDTO>> findSalesBySeller(@AuthenticationPrincipal CustomOAuth2User oAuth2User,
+                                                                                  @RequestParam(required = false) String cursor,
+                                                                                  @RequestParam(required = false) Integer size) {
+        CursorResponse<SalesHistoryResponseDTO> sales = myPageService.findSalesHistory(oAuth2User.getId(), cursor, size);
+
+        return ApiResponse.success(sales);
+    }
+
+    // 구매/판매 거래 수 요약
+    @GetMapping("/trades/summary")
+    public ApiResponse<TradeSummaryResponseDTO> findTradeSummary(@AuthenticationPrincipal CustomOAuth2User oAuth2User) {
+        return ApiResponse.success(myPageService.findTradeSummary(oAuth2User.getId()));
     }
 
     @GetMapping("/likes")
-    public ApiResponse<List<ProductResponseDTO>> getUserLikes(@AuthenticationPrincipal Long userId) {
-        List<ProductResponseDTO> productResponseDTOS = viewLikeProductService.findUserLikeProducts(userId);
+    public ApiResponse<List<ProductResponseDTO>> getUserLikes(@AuthenticationPrincipal CustomOAuth2User oAuth2User) {
+        List<ProductResponseDTO> productResponseDTOS = viewLikeProductService.findUserLikeProducts(oAuth2User.getId());
 
         return ApiResponse.success(productResponseDTOS);
     }
@@ -0,0 +1,18 @@
+package com.trade_ham.domain.mypage.dto;
+
+import com.trade_ham.domain.product.entity.ProductStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 구매 내역 화면에 보여주는 값만 담는 DTO (JPQL 생성자 표현식으로 조회)
+@Getter
+@AllArgsConstructor
+public class PurchaseHistoryResponseDTO {
+    private Long tradeId;
+    private Long productId;
+    private String name;
+    private Long price;
+    private ProductStatus status;
+    private String sellerNickname;
+    private String lockerNumber;
+}
@@ -0,0 +1,12 @@
+package com.trade_ham.domain.mypage.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 마이페이지 거래 요약 (구매/판매 거래 수)
+@Getter
+@AllArgsConstructor
+public class TradeSummaryResponseDTO {
+    private long purchaseCount;
+    private long saleCount;
+}
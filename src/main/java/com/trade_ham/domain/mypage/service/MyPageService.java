@@ -1,41 +1,66 @@
 package com.trade_ham.domain.mypage.service;
 
 
-import com.trade_ham.domain.auth.entity.UserEntity;
-import com.trade_ham.domain.auth.repository.UserRepository;
-import com.trade_ham.domain.product.entity.ProductEntity;
+import com.trade_ham.domain.mypage.dto.PurchaseHistoryResponseDTO;
+import com.trade_ham.domain.mypage.dto.SalesHistoryResponseDTO;
+import com.trade_ham.domain.mypage.dto.TradeSummaryResponseDTO;
 import com.trade_ham.domain.product.dto.ProductResponseDTO;
 import com.trade_ham.domain.product.repository.ProductRepository;
-import com.trade_ham.global.common.exception.ErrorCode;
-import com.trade_ham.global.common.exception.ResourceNotFoundException;
+import com.trade_ham.domain.product.repository.TradeRepository;
+import com.trade_ham.domain.product.service.TradeCounter;
+import com.trade_ham.global.common.pagination.CursorResponse;
+import com.trade_ham.global.common.pagination.IdCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class MyPageService {
 
-    private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final TradeRepository tradeRepository;
+    private final TradeCounter tradeCounter;
 
     // 구매자 구매 내역 관리
-    public List<ProductEntity> findProductsByBuyer(Long buyerId) {
-        UserEntity buyer = userRepository.findById(buyerId)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
-        return productRepository.findByBuyer(buyer);
+    // 거래 내역 기준으로 화면에 필요한 값만 DTO 로 조회, 이력 길이와 상관없이 쿼리 한 번
+    @Transactional(readOnly = true)
+    public CursorResponse<PurchaseHistoryResponseDTO> findPurchaseHistory(Long buyerId, String cursor, Integer size) {
+        int pageSize = CursorResponse.normalizeSize(size);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<PurchaseHistoryResponseDTO> rows = (cursor == null || cursor.isBlank())
+                ? tradeRepository.findPurchaseHistoryFirstPage(buyerId, pageable)
+                : tradeRepository.findPurchaseHistoryAfter(buyerId, IdCursor.decode(cursor), pageable);
+
+        return CursorResponse.of(rows, pageSize, purchase -> IdCursor.encode(purchase.getTradeId()));
+    }
+
+    // 판매자 거래 내역 (판매 완료된 거래만), 구매 내역과 같은 방식의 커서 페이지
+    @Transactional(readOnly = true)
+    public CursorResponse<SalesHistoryResponseDTO> findSalesHistory(Long sellerId, String cursor, Integer size) {
+        int pageSize = CursorResponse.normalizeSize(size);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<SalesHistoryResponseDTO> rows = (cursor == null || cursor.isBlank())
+                ? tradeRepository.findSalesHistoryFirstPage(sellerId, pageable)
+                : tradeRepository.findSalesHistoryAfter(sellerId, IdCursor.decode(cursor), pageable);
+
+        return CursorResponse.of(rows, pageSize, sale -> IdCursor.encode(sale.getTradeId()));
+    }
+
+    // 구매/판매 거래 수, COUNT 쿼리 대신 레디스 카운터
+    public TradeSummaryResponseDTO findTradeSummary(Long userId) {
+        return tradeCounter.get(userId);
     }
 
     // 판매자 판매 내역 관리
+    // 판매자/구매자/사물함 엔티티를 로딩하지 않고 DTO 프로젝션 쿼리 한 번으로 조회
     public List<ProductResponseDTO> findProductsBySeller(Long sellerId) {
-        UserEntity seller = userRepository.findById(sellerId)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
-        List<ProductEntity> productEntities = productRepository.findBySeller(seller);
-
-        return productEntities.stream()
-                .map(ProductResponseDTO::new)
-                .collect(Collectors.toList());
+        return productRepository.findResponsesBySellerId(sellerId);
     }
 }
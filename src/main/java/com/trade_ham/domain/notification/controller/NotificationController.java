@@ -2,13 +2,15 @@ package com.trade_ham.domain.notification.controller;
 
 import com.trade_ham.domain.auth.dto.CustomOAuth2User;
 import com.trade_ham.domain.notification.dto.NotificationResponseDTO;
+import com.trade_ham.domain.notification.service.NotificationPushService;
 import com.trade_ham.domain.notification.service.NotificationService;
+import com.trade_ham.global.common.pagination.CursorResponse;
 import com.trade_ham.global.common.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,12 +18,28 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationPushService notificationPushService;
 
     @GetMapping("/notifications")
-    public ApiResponse<List<NotificationResponseDTO>> getUserNotifications(
-            @AuthenticationPrincipal CustomOAuth2User oAuth2User
+    public ApiResponse<CursorResponse<NotificationResponseDTO>> getUserNotifications(
+            @AuthenticationPrincipal CustomOAuth2User oAuth2User,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
-        List<NotificationResponseDTO> notifications = notificationService.getUserNotifications(oAuth2User.getId());
+        CursorResponse<NotificationResponseDTO> notifications =
+                notificationService.getUserNotifications(oAuth2User.getId(), cursor, size);
         return ApiResponse.success(notifications);
     }
+
+    // 읽지 않은 알림 수 (레디스 카운터)
+    @GetMapping("/notifications/unread-count")
+    public ApiResponse<Long> countUnreadNotifications(@AuthenticationPrincipal CustomOAuth2User oAuth2User) {
+        return ApiResponse.success(notificationService.countUnreadNotifications(oAuth2User.getId()));
+    }
+
+    // 새 알림 실시간 수신 (SSE), 주기적 조회 대신 연결을 유지한다
+    @GetMapping(value = "/notifications/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@AuthenticationPrincipal CustomOAuth2User oAuth2User) {
+        return notificationPushService.subscribe(oAuth2User.getId());
+    }
 }
@@ -3,6 +3,7 @@ package com.trade_ham.domain.notification.dto;
 
 import com.trade_ham.domain.notification.entity.NotificationEntity;
 import com.trade_ham.domain.notification.entity.NotificationType;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@AllArgsConstructor // JPQL 생성자 표현식
 public class NotificationResponseDTO {
     private Long id;
     private String message;
@@ -0,0 +1,45 @@
+package com.trade_ham.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*
+보관 기간이 지난 알림 (notification_archive)
+NotificationRetentionService 가 JDBC 로 notification_entity 에서 옮겨 온다.
+조회 API 에서는 읽지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_archive",
+        indexes = @Index(name = "idx_notification_archive_user_created_at", columnList = "id, created_at"))
+public class NotificationArchiveEntity {
+
+    // 원본 notification_entity 의 id 를 그대로 사용
+    @Id
+    @Column(name = "notification_id")
+    private Long notificationId;
+
+    // 사용자 id (원본과 같은 컬럼명, 탈퇴 사용자도 보관하도록 FK 는 두지 않는다)
+    @Column(name = "id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationType type;
+
+    @Column(name = "additional_data")
+    private String additionalData;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -7,16 +7,22 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        // 사용자별 알림 keyset 페이지네이션 (id = 사용자 FK, createdAt DESC, notificationId DESC)
+        @Index(name = "idx_notification_user_created_at", columnList = "id, created_at, notification_id"),
+        // 보관 기간 정리 대상 조회 (NotificationRetentionService)
+        @Index(name = "idx_notification_type_created_at", columnList = "type, created_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class NotificationEntity extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_id_generator")
+    @SequenceGenerator(name = "notification_id_generator", sequenceName = "notification_entity_seq", allocationSize = 50)
     private Long notificationId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -26,12 +32,10 @@ public class NotificationEntity extends BaseEntity {
     @Column(nullable = false)
     private String message;
 
+    // 레거시 컬럼, 읽음 여부는 사용자별 watermark (UserEntity.notificationReadAt) 로 판단한다
     @Column(nullable = false)
     private Boolean isRead;
 
-    @Column(nullable = false)
-    private LocalDateTime createdAt;
-
     @Enumerated(EnumType.STRING)
     private NotificationType type;
 
@@ -41,8 +45,4 @@ public class NotificationEntity extends BaseEntity {
     public void prePersist() {
         this.isRead = false;
     }
-
-    public void markAsRead() {
-        this.isRead = true;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.trade_ham.domain.notification.entity;
+
+public enum NotificationOutboxEventType {
+    PURCHASE_COMPLETED // 구매 완료 -> 판매자 사물함 정보, 구매자 구매 완료 알림
+}
@@ -0,0 +1,6 @@
+package com.trade_ham.domain.notification.entity;
+
+public enum NotificationOutboxStatus {
+    PENDING, // 발송 대기 (재시도 포함)
+    FAILED // 최대 재시도 횟수 초과
+}
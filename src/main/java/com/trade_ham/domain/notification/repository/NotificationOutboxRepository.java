@@ -0,0 +1,22 @@
+package com.trade_ham.domain.notification.repository;
+
+import com.trade_ham.domain.notification.entity.NotificationOutboxEntity;
+import com.trade_ham.domain.notification.entity.NotificationOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEntity, Long> {
+
+    // 발송 시각이 된 이벤트, idx_outbox_status_next_attempt 범위 조회
+    @Query("SELECT o.outboxId FROM NotificationOutboxEntity o " +
+            "WHERE o.status = :status AND o.nextAttemptAt <= :now " +
+            "ORDER BY o.nextAttemptAt, o.outboxId")
+    List<Long> findDispatchableIds(@Param("status") NotificationOutboxStatus status,
+                                   @Param("now") LocalDateTime now,
+                                   Pageable pageable);
+}
@@ -1,17 +1,42 @@
 package com.trade_ham.domain.notification.repository;
 
-import com.trade_ham.domain.auth.entity.UserEntity;
+import com.trade_ham.domain.notification.dto.NotificationResponseDTO;
 import com.trade_ham.domain.notification.entity.NotificationEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<NotificationEntity, Long> {
-    List<NotificationEntity> findByUser_IdOrderByCreatedAtDesc(Long userId);
-    @Modifying
-    @Query("UPDATE NotificationEntity n SET n.isRead = true WHERE n.user = :user")
-    void markAllAsReadByUser(UserEntity user);
-}
 
+    // 읽음 여부는 사용자 watermark 와 생성 시각을 비교해서 계산
+    String NOTIFICATION_RESPONSE_PROJECTION =
+            "SELECT new com.trade_ham.domain.notification.dto.NotificationResponseDTO(" +
+            "n.notificationId, n.message, n.type, n.additionalData, n.createdAt, " +
+            "CASE WHEN u.notificationReadAt IS NOT NULL AND n.createdAt <= u.notificationReadAt THEN true ELSE false END) " +
+            "FROM NotificationEntity n JOIN n.user u ";
+
+    // 첫 페이지, idx_notification_user_created_at 범위 조회
+    @Query(NOTIFICATION_RESPONSE_PROJECTION +
+            "WHERE n.user.id = :userId " +
+            "ORDER BY n.createdAt DESC, n.notificationId DESC")
+    List<NotificationResponseDTO> findFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 다음 페이지, (createdAt, notificationId) 커서 이후부터 조회
+    @Query(NOTIFICATION_RESPONSE_PROJECTION +
+            "WHERE n.user.id = :userId " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.notificationId < :notificationId)) " +
+            "ORDER BY n.createdAt DESC, n.notificationId DESC")
+    List<NotificationResponseDTO> findPageByUserIdAfter(@Param("userId") Long userId,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("notificationId") Long notificationId,
+                                                        Pageable pageable);
+
+    // 읽지 않은 알림 수 (레디스 카운터가 없을 때만 사용)
+    long countByUser_Id(Long userId);
+
+    long countByUser_IdAndCreatedAtAfter(Long userId, LocalDateTime readAt);
+}
@@ -0,0 +1,170 @@
+package com.trade_ham.domain.notification.service;
+
+import com.trade_ham.domain.locker.entity.LockerEntity;
+import com.trade_ham.domain.notification.entity.NotificationOutboxEntity;
+import com.trade_ham.domain.notification.entity.NotificationOutboxStatus;
+import com.trade_ham.domain.notification.repository.NotificationOutboxRepository;
+import com.trade_ham.domain.product.entity.TradeEntity;
+import com.trade_ham.domain.product.repository.TradeRepository;
+import com.trade_ham.global.common.exception.ErrorCode;
+import com.trade_ham.global.common.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/*
+알림 outbox 기록 + 발송
+구매 트랜잭션은 outbox 에 한 줄만 기록하고 (알림 생성/직렬화 비용, 실패가 구매에 영향을 주지 않음)
+스케줄러가 batch 단위로 꺼내 알림을 만든다.
+
+- 이벤트 하나는 별도 트랜잭션에서 알림 생성 + outbox 삭제를 함께 커밋한다.
+- 실패하면 지수 백오프 (retry-base * 2^attempts, 최대 retry-max) 후 재시도하고
+  max-attempts 를 넘기면 FAILED 로 남겨 원인을 확인할 수 있게 한다.
+ */
+@Slf4j
+@Service
+public class NotificationOutboxService {
+
+    private static final String DISPATCH_LOCK_KEY = "notification:outbox:dispatch-lock";
+    private static final Duration DISPATCH_LOCK_TTL = Duration.ofMinutes(1);
+    // 한 번 실행에 쓰는 최대 시간, 잠금 TTL 안에 끝나서 다른 서버와 겹치지 않도록 절반으로 제한
+    private static final Duration DISPATCH_TIME_BUDGET = DISPATCH_LOCK_TTL.dividedBy(2);
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final TradeRepository tradeRepository;
+    private final NotificationService notificationService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> lockReleaseScript;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBase;
+    private final Duration retryMax;
+
+    public NotificationOutboxService(NotificationOutboxRepository notificationOutboxRepository,
+                                     TradeRepository tradeRepository,
+                                     NotificationService notificationService,
+                                     RedisTemplate<String, String> redisTemplate,
+                                     RedisScript<Long> lockReleaseScript,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${notification.outbox.batch-size:100}") int batchSize,
+                                     @Value("${notification.outbox.max-attempts:10}") int maxAttempts,
+                                     @Value("${notification.outbox.retry-base:5s}") Duration retryBase,
+                                     @Value("${notification.outbox.retry-max:10m}") Duration retryMax) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.tradeRepository = tradeRepository;
+        this.notificationService = notificationService;
+        this.redisTemplate = redisTemplate;
+        this.lockReleaseScript = lockReleaseScript;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBase = retryBase;
+        this.retryMax = retryMax;
+    }
+
+    // 구매 완료 이벤트 기록, 호출한 트랜잭션과 함께 커밋된다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueuePurchaseCompleted(Long tradeId) {
+        notificationOutboxRepository.save(NotificationOutboxEntity.purchaseCompleted(tradeId));
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.dispatch-interval-ms:1000}")
+    public void dispatch() {
+        // 여러 서버가 같은 이벤트를 중복 발송하지 않도록 잠금, 내가 잡은 잠금만 해제
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(DISPATCH_LOCK_KEY, lockToken, DISPATCH_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        try {
+            // 밀린 이벤트가 많아도 시간 예산을 넘기면 멈추고 나머지는 다음 주기에 처리
+            long deadline = System.nanoTime() + DISPATCH_TIME_BUDGET.toNanos();
+            int fetched;
+            do {
+                fetched = dispatchBatch();
+            } while (fetched == batchSize && System.nanoTime() < deadline);
+        } catch (RuntimeException e) {
+            log.warn("failed to dispatch notification outbox, will retry next interval", e);
+        } finally {
+            redisTemplate.execute(lockReleaseScript, List.of(DISPATCH_LOCK_KEY), lockToken);
+        }
+    }
+
+    private int dispatchBatch() {
+        List<Long> outboxIds = notificationOutboxRepository.findDispatchableIds(
+                NotificationOutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+
+        outboxIds.forEach(this::dispatchOne);
+        return outboxIds.size();
+    }
+
+    private void dispatchOne(Long outboxId) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    notificationOutboxRepository.findById(outboxId)
+                            .filter(event -> event.getStatus() == NotificationOutboxStatus.PENDING)
+                            .ifPresent(event -> {
+                                handle(event);
+                                notificationOutboxRepository.delete(event);
+                            }));
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status ->
+                    notificationOutboxRepository.findById(outboxId).ifPresent(event -> fail(event, e)));
+        }
+    }
+
+    private void handle(NotificationOutboxEntity event) {
+        switch (event.getEventType()) {
+            case PURCHASE_COMPLETED -> {
+                TradeEntity trade = tradeRepository.findById(event.getAggregateId())
+                        .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
+                LockerEntity locker = trade.getLockerEntity();
+
+                // 판매자에게 알림 생성
+                notificationService.createLockerNotification(
+                        trade.getSeller(),
+                        locker.getLockerNumber(),
+                        locker.getLockerPassword()
+                );
+
+                // 구매자에게 구매 완료 알림
+                notificationService.createPurchaseCompleteNotification(
+                        trade.getBuyer(),
+                        trade.getProductEntity().getName()
+                );
+            }
+        }
+    }
+
+    private void fail(NotificationOutboxEntity event, RuntimeException e) {
+        if (event.getAttempts() + 1 >= maxAttempts) {
+            event.markFailed(e.toString());
+            log.error("notification outbox event failed permanently. outboxId={}, type={}, aggregateId={}",
+                    event.getOutboxId(), event.getEventType(), event.getAggregateId(), e);
+            return;
+        }
+
+        Duration backoff = retryBase.multipliedBy(1L << Math.min(event.getAttempts(), 20));
+        if (backoff.compareTo(retryMax) > 0) {
+            backoff = retryMax;
+        }
+        event.scheduleRetry(LocalDateTime.now().plus(backoff), e.toString());
+        log.warn("notification outbox event failed, retry in {}. outboxId={}, attempts={}",
+                backoff, event.getOutboxId(), event.getAttempts(), e);
+    }
+}
@@ -0,0 +1,201 @@
+package com.trade_ham.domain.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trade_ham.domain.notification.dto.NotificationResponseDTO;
+import com.trade_ham.global.common.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+알림 실시간 전송 (SSE)
+각 서버는 자신에게 연결된 사용자의 SseEmitter 를 보관하고,
+알림이 생성되면 레디스 pub/sub 으로 모든 서버에 전달해서 해당 사용자가 연결된 서버가 전송한다.
+
+- 연결마다 크기가 제한된 버퍼를 두고 전송 스레드가 순서대로 보낸다.
+  버퍼가 가득 찬 느린 연결은 끊고, 클라이언트는 재연결 후 목록 API 로 따라잡는다.
+- 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 heartbeat 주석을 보낸다.
+ */
+@Slf4j
+@Component
+public class NotificationPushService implements MessageListener {
+
+    public static final String PUSH_CHANNEL = "notification:push";
+    private static final String USER_DELIMITER = ":";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration emitterTimeout;
+    private final int bufferSize;
+    private final ExecutorService sender;
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+
+    public NotificationPushService(RedisTemplate<String, String> redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   RedisMessageListenerContainer listenerContainer,
+                                   @Value("${notification.sse.timeout:30m}") Duration emitterTimeout,
+                                   @Value("${notification.sse.buffer-size:100}") int bufferSize,
+                                   @Value("${notification.sse.sender-threads:4}") int senderThreads) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.emitterTimeout = emitterTimeout;
+        this.bufferSize = bufferSize;
+        this.sender = Executors.newFixedThreadPool(senderThreads);
+
+        // 이 서버에 연결된 사용자 수
+        meterRegistry.gaugeMapSize("notification.sse.users", Tags.empty(), connections);
+        listenerContainer.addMessageListener(this, new ChannelTopic(PUSH_CHANNEL));
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Connection connection = new Connection(userId, emitter, bufferSize);
+        connections.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(connection);
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        // 연결 직후 이벤트를 보내야 클라이언트가 연결 성공을 알 수 있다
+        enqueue(connection, SseEmitter.event().name("connected").data("connected"));
+        return emitter;
+    }
+
+    // 알림 전송 요청, 트랜잭션 안이면 커밋 후 발행
+    public void publish(Long userId, NotificationResponseDTO notification) {
+        String payload;
+        try {
+            payload = userId + USER_DELIMITER + objectMapper.writeValueAsString(notification);
+        } catch (JsonProcessingException e) {
+            log.warn("failed to serialize notification push. userId={}", userId, e);
+            return;
+        }
+
+        TransactionCallbacks.afterCommit(() -> convertAndSend(payload));
+    }
+
+    // 다른 서버(자기 자신 포함)에서 발행한 알림을 이 서버에 연결된 사용자에게 전송
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiter = body.indexOf(USER_DELIMITER);
+        if (delimiter < 0) {
+            return;
+        }
+
+        Set<Connection> userConnections = connections.get(Long.valueOf(body.substring(0, delimiter)));
+        if (userConnections == null) {
+            return;
+        }
+
+        String json = body.substring(delimiter + 1);
+        userConnections.forEach(connection ->
+                enqueue(connection, SseEmitter.event().name("notification").data(json, MediaType.APPLICATION_JSON)));
+    }
+
+    @Scheduled(fixedRateString = "${notification.sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        connections.values().forEach(userConnections ->
+                userConnections.forEach(connection -> enqueue(connection, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(userConnections -> userConnections.forEach(connection -> connection.emitter.complete()));
+        sender.shutdown();
+    }
+
+    private void convertAndSend(String payload) {
+        try {
+            redisTemplate.convertAndSend(PUSH_CHANNEL, payload);
+        } catch (RuntimeException e) {
+            // 실시간 전송 실패는 알림 생성에 영향을 주지 않는다, 클라이언트는 목록 API 로 확인 가능
+            log.warn("failed to publish notification push", e);
+        }
+    }
+
+    private void enqueue(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.closed) {
+            return;
+        }
+
+        if (!connection.buffer.offer(event)) {
+            log.debug("sse buffer full, closing slow connection. userId={}", connection.userId);
+            remove(connection);
+            connection.emitter.complete();
+            return;
+        }
+
+        if (connection.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(connection));
+        }
+    }
+
+    private void drain(Connection connection) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!connection.closed && (event = connection.buffer.poll()) != null) {
+                connection.emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊은 경우
+            remove(connection);
+        } finally {
+            connection.draining.set(false);
+        }
+
+        // 전송을 마치는 사이에 들어온 이벤트
+        if (!connection.closed && !connection.buffer.isEmpty() && connection.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(connection));
+        }
+    }
+
+    private void remove(Connection connection) {
+        connection.closed = true;
+        connection.buffer.clear();
+        connections.computeIfPresent(connection.userId, (userId, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    private static class Connection {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Connection(Long userId, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.trade_ham.domain.notification.service;
+
+import com.trade_ham.domain.notification.entity.NotificationType;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/*
+알림 보관 기간 정리
+알림 종류별 보관 기간 (notification.retention.ttl.*) 이 지난 row 를
+notification_archive 로 옮기거나 (mode=archive) 지운다 (mode=delete).
+
+- (type, created_at) 인덱스로 batch-size 개씩 id 를 찾고, batch 하나를 한 트랜잭션에서
+  INSERT ... SELECT + DELETE 한다. batch 사이에 잠시 쉬어서 긴 잠금이나 복제 지연을 만들지 않는다.
+- 한 번 실행에 종류별 max-batches 까지만 처리하고 나머지는 다음 실행으로 넘긴다.
+- 읽지 않은 채 정리된 알림은 레디스 미읽음 카운터에 TTL 이 지날 때까지 남아 있을 수 있다.
+ */
+@Slf4j
+@Service
+public class NotificationRetentionService {
+
+    public enum Mode { ARCHIVE, DELETE }
+
+    private static final String RETENTION_LOCK_KEY = "notification:retention-lock";
+    private static final Duration RETENTION_LOCK_TTL = Duration.ofHours(1);
+    // 한 번 실행에 쓰는 최대 시간, 잠금 TTL 안에 끝나도록 절반으로 제한 (남은 row 는 다음 실행에서)
+    private static final Duration RETENTION_TIME_BUDGET = RETENTION_LOCK_TTL.dividedBy(2);
+
+    private static final String SELECT_EXPIRED_IDS_SQL =
+            "SELECT notification_id FROM notification_entity WHERE type = ? AND created_at < ? " +
+            "ORDER BY created_at LIMIT ?";
+    private static final String ARCHIVE_SQL =
+            "INSERT INTO notification_archive " +
+            "(notification_id, id, message, type, additional_data, created_at, archived_at) " +
+            "SELECT notification_id, id, message, type, additional_data, created_at, ? " +
+            "FROM notification_entity WHERE notification_id IN (%s)";
+    private static final String DELETE_SQL =
+            "DELETE FROM notification_entity WHERE notification_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> lockReleaseScript;
+    private final MeterRegistry meterRegistry;
+    private final Map<NotificationType, Duration> ttls = new EnumMap<>(NotificationType.class);
+    private final Mode mode;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long pauseMs;
+
+    public NotificationRetentionService(JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        RedisTemplate<String, String> redisTemplate,
+                                        RedisScript<Long> lockReleaseScript,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${notification.retention.ttl.locker-info:30d}") Duration lockerInfoTtl,
+                                        @Value("${notification.retention.ttl.purchase-complete:90d}") Duration purchaseCompleteTtl,
+                                        @Value("${notification.retention.ttl.product-sold:90d}") Duration productSoldTtl,
+                                        @Value("${notification.retention.mode:archive}") String mode,
+                                        @Value("${notification.retention.batch-size:1000}") int batchSize,
+                                        @Value("${notification.retention.max-batches:500}") int maxBatches,
+                                        @Value("${notification.retention.pause-ms:100}") long pauseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.redisTemplate = redisTemplate;
+        this.lockReleaseScript = lockReleaseScript;
+        this.meterRegistry = meterRegistry;
+        this.ttls.put(NotificationType.LOCKER_INFO, lockerInfoTtl);
+        this.ttls.put(NotificationType.PURCHASE_COMPLETE, purchaseCompleteTtl);
+        this.ttls.put(NotificationType.PRODUCT_SOLD, productSoldTtl);
+        this.mode = Mode.valueOf(mode.toUpperCase());
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pauseMs = pauseMs;
+    }
+
+    @Scheduled(cron = "${notification.retention.cron:0 0 4 * * *}")
+    public void run() {
+        // 여러 서버가 동시에 정리하지 않도록 잠금, 내가 잡은 잠금만 해제
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(RETENTION_LOCK_KEY, lockToken, RETENTION_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            long deadline = System.nanoTime() + RETENTION_TIME_BUDGET.toNanos();
+            for (Map.Entry<NotificationType, Duration> ttl : ttls.entrySet()) {
+                if (!retain(ttl.getKey(), now.minus(ttl.getValue()), deadline)) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("failed to apply notification retention, will retry next run", e);
+        } finally {
+            redisTemplate.execute(lockReleaseScript, List.of(RETENTION_LOCK_KEY), lockToken);
+        }
+    }
+
+    // 기준 시각 이전에 만들어진 해당 종류 알림을 정리, 중단 (인터럽트/시간 예산 초과) 되면 false
+    public boolean retain(NotificationType type, LocalDateTime cutoff, long deadlineNanos) {
+        long startedAt = System.nanoTime();
+        Timestamp cutoffTimestamp = Timestamp.valueOf(cutoff);
+        long moved = 0;
+        int batches = 0;
+        boolean completed = true;
+
+        while (batches < maxBatches) {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    SELECT_EXPIRED_IDS_SQL, Long.class, type.name(), cutoffTimestamp, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            moved += processBatch(ids);
+            batches++;
+
+            if (ids.size() < batchSize) {
+                break;
+            }
+            if (System.nanoTime() >= deadlineNanos || !pause()) {
+                completed = false;
+                break;
+            }
+        }
+
+        long elapsedMs = Math.max(Duration.ofNanos(System.nanoTime() - startedAt).toMillis(), 1);
+        meterRegistry.counter("notification.retention.rows",
+                "type", type.name(), "mode", mode.name().toLowerCase()).increment(moved);
+        log.info("notification retention {}: {} {} rows older than {} in {} batches, {} ms ({} rows/s){}",
+                type, mode == Mode.ARCHIVE ? "archived" : "deleted", moved, cutoff, batches, elapsedMs,
+                moved * 1000 / elapsedMs, batches == maxBatches ? ", batch limit reached"
+                        : !completed ? ", stopped early" : "");
+        return completed;
+    }
+
+    private int processBatch(List<Long> ids) {
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        Object[] idArgs = ids.toArray();
+
+        Integer deleted = transactionTemplate.execute(status -> {
+            if (mode == Mode.ARCHIVE) {
+                Object[] archiveArgs = new Object[idArgs.length + 1];
+                archiveArgs[0] = Timestamp.valueOf(LocalDateTime.now());
+                System.arraycopy(idArgs, 0, archiveArgs, 1, idArgs.length);
+                jdbcTemplate.update(ARCHIVE_SQL.formatted(placeholders), archiveArgs);
+            }
+            return jdbcTemplate.update(DELETE_SQL.formatted(placeholders), idArgs);
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
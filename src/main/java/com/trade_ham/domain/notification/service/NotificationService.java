@@ -9,10 +9,15 @@ import com.trade_ham.domain.notification.entity.NotificationType;
 import com.trade_ham.domain.notification.repository.NotificationRepository;
 import com.trade_ham.global.common.exception.ErrorCode;
 import com.trade_ham.global.common.exception.NotificationNotCreateException;
-import com.trade_ham.global.common.exception.ResourceNotFoundException;
+import com.trade_ham.global.common.pagination.CursorResponse;
+import com.trade_ham.global.common.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +28,8 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final ObjectMapper objectMapper;
     private final UserRepository userRepository;
+    private final NotificationPushService notificationPushService;
+    private final NotificationUnreadCounter notificationUnreadCounter;
 
     @Transactional
     public void createLockerNotification(UserEntity seller, String lockerId, String password) {
@@ -39,6 +46,8 @@ public class NotificationService {
                     .build();
 
             notificationRepository.save(notification);
+            notificationPushService.publish(seller.getId(), NotificationResponseDTO.from(notification));
+            notificationUnreadCounter.increment(seller.getId());
         } catch (Exception e) {
             throw new NotificationNotCreateException(ErrorCode.NOTIFICATION_CREATION_ERROR);
         }
@@ -53,21 +62,45 @@ public class NotificationService {
                 .build();
 
         notificationRepository.save(notification);
+        notificationPushService.publish(buyer.getId(), NotificationResponseDTO.from(notification));
+        notificationUnreadCounter.increment(buyer.getId());
     }
 
-    @Transactional(readOnly = true)
-    public List<NotificationResponseDTO> getUserNotifications(Long userId) {
-        List<NotificationEntity> notifications = notificationRepository.findByUser_IdOrderByCreatedAtDesc(userId);
-        List<NotificationResponseDTO> notificationResponseDTOS = notifications.stream()
-                .map(NotificationResponseDTO::from)
-                .toList();
+    /*
+    알림 목록 (최신순 커서 페이지)
+    첫 페이지를 열면 읽음 watermark 를 응답에 포함된 가장 최신 알림의 생성 시각으로 옮긴다 (알림 row 는 갱신하지 않음).
+    조회 이후에 생긴 알림은 사용자가 보지 못했으므로 읽지 않은 상태로 남는다.
+    응답의 읽음 여부는 옮기기 전 watermark 기준이다.
+     */
+    @Transactional
+    public CursorResponse<NotificationResponseDTO> getUserNotifications(Long userId, String cursor, Integer size) {
+        int pageSize = CursorResponse.normalizeSize(size);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<NotificationResponseDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = notificationRepository.findFirstPageByUserId(userId, pageable);
+            if (!rows.isEmpty()) {
+                markAsReadUntil(userId, rows.get(0).getCreatedAt());
+            }
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            rows = notificationRepository.findPageByUserIdAfter(
+                    userId, keysetCursor.getCreatedAt(), keysetCursor.getId(), pageable);
+        }
 
-        UserEntity user = userRepository.findById(userId)
-                        .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+        return CursorResponse.of(rows, pageSize,
+                notification -> new KeysetCursor(notification.getCreatedAt(), notification.getId()).encode());
+    }
 
-        notificationRepository.markAllAsReadByUser(user);
+    public long countUnreadNotifications(Long userId) {
+        return notificationUnreadCounter.get(userId);
+    }
 
-        return notificationResponseDTOS;
+    // readAt 까지 읽음 처리, 미읽음 카운터는 같은 기준으로 다시 계산되도록 무효화
+    private void markAsReadUntil(Long userId, LocalDateTime readAt) {
+        if (userRepository.updateNotificationReadAt(userId, readAt) > 0) {
+            notificationUnreadCounter.invalidate(userId);
+        }
     }
 }
-
@@ -0,0 +1,66 @@
+package com.trade_ham.domain.notification.service;
+
+import com.trade_ham.domain.auth.repository.UserRepository;
+import com.trade_ham.domain.notification.repository.NotificationRepository;
+import com.trade_ham.global.common.redis.RedisHashCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/*
+읽지 않은 알림 수 (레디스 카운터)
+notification:unread-count:{userId} -> { unread }
+
+- 알림 생성 시 커밋 후 증가
+- 읽음 처리 시 카운터를 지워서 새 watermark 기준으로 다시 계산하게 한다
+- 카운터가 없으면 watermark 이후 알림 수를 DB 에서 세어 다시 채운다
+ */
+@Component
+public class NotificationUnreadCounter {
+
+    public static final String UNREAD_KEY_PREFIX = "notification:unread-count:";
+    private static final String UNREAD_FIELD = "unread";
+
+    private final RedisHashCounter counter;
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+
+    public NotificationUnreadCounter(RedisTemplate<String, String> redisTemplate,
+                                     RedisScript<Long> hashIncrementIfExistsScript,
+                                     RedisScript<Long> counterSeedScript,
+                                     RedisScript<Long> counterInvalidateScript,
+                                     NotificationRepository notificationRepository,
+                                     UserRepository userRepository,
+                                     @Value("${notification.unread.ttl:1d}") Duration counterTtl) {
+        this.counter = new RedisHashCounter(redisTemplate, hashIncrementIfExistsScript, counterSeedScript,
+                counterInvalidateScript, UNREAD_KEY_PREFIX, counterTtl);
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+    }
+
+    public long get(Long userId) {
+        return counter.get(userId, List.of(UNREAD_FIELD), () -> Map.of(UNREAD_FIELD, countUnread(userId)))
+                .get(UNREAD_FIELD);
+    }
+
+    public void increment(Long userId) {
+        counter.increment(userId, UNREAD_FIELD);
+    }
+
+    public void invalidate(Long userId) {
+        counter.invalidate(userId);
+    }
+
+    private long countUnread(Long userId) {
+        LocalDateTime readAt = userRepository.findNotificationReadAt(userId).orElse(null);
+        return readAt == null
+                ? notificationRepository.countByUser_Id(userId)
+                : notificationRepository.countByUser_IdAndCreatedAtAfter(userId, readAt);
+    }
+}
@@ -0,0 +1,158 @@
+package com.trade_ham.domain.product.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trade_ham.domain.product.dto.ProductDetailResponseDTO;
+import com.trade_ham.domain.product.repository.ProductRepository;
+import com.trade_ham.global.common.exception.ErrorCode;
+import com.trade_ham.global.common.exception.ResourceNotFoundException;
+import com.trade_ham.global.common.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+상품 상세 2단계 캐시
+L1: 서버 로컬 Caffeine (W-TinyLFU, 크기 제한)
+L2: 레디스에 JSON 으로 직렬화한 ProductDetailResponseDTO
+둘 다 없으면 DB 에서 읽어 L2, L1 순으로 채운다.
+
+수정/삭제/상태 변경 시 트랜잭션 커밋 후 L1, L2 를 지우고
+레디스 pub/sub 으로 다른 서버의 L1 도 지운다.
+ */
+@Slf4j
+@Component
+public class ProductDetailCache implements MessageListener {
+
+    public static final String DETAIL_KEY_PREFIX = "product:detail:";
+    public static final String INVALIDATION_CHANNEL = "product:detail:invalidate";
+    private static final String ID_DELIMITER = ",";
+
+    private final Cache<Long, ProductDetailResponseDTO> localCache;
+    private final ProductRepository productRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+
+    public ProductDetailCache(ProductRepository productRepository,
+                              RedisTemplate<String, String> redisTemplate,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              RedisMessageListenerContainer listenerContainer,
+                              @Value("${product.detail.cache.local-max-size:10000}") long localMaxSize,
+                              @Value("${product.detail.cache.local-ttl:60s}") Duration localTtl,
+                              @Value("${product.detail.cache.redis-ttl:10m}") Duration redisTtl) {
+        this.productRepository = productRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+
+        // L1 적중률/크기/제거 수: cache.gets{cache=productDetail} 등
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "productDetail");
+        this.redisHitCounter = meterRegistry.counter("product.detail.cache.redis", "result", "hit");
+        this.redisMissCounter = meterRegistry.counter("product.detail.cache.redis", "result", "miss");
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public ProductDetailResponseDTO get(Long productId) {
+        ProductDetailResponseDTO cached = localCache.getIfPresent(productId);
+        if (cached != null) {
+            return cached;
+        }
+
+        ProductDetailResponseDTO product = readRedis(productId);
+        if (product != null) {
+            redisHitCounter.increment();
+        } else {
+            redisMissCounter.increment();
+            product = new ProductDetailResponseDTO(productRepository.findById(productId)
+                    .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND)));
+            writeRedis(product);
+        }
+
+        localCache.put(productId, product);
+        return product;
+    }
+
+    public void evict(Long productId) {
+        evictAll(List.of(productId));
+    }
+
+    // 트랜잭션 안이면 커밋 후에 지운다 (커밋 전 값을 다시 캐시하지 않도록)
+    public void evictAll(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> doEvict(productIds));
+    }
+
+    // 다른 서버에서 보낸 무효화 메시지
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        List<Long> productIds = Arrays.stream(body.split(ID_DELIMITER))
+                .map(Long::valueOf)
+                .toList();
+        localCache.invalidateAll(productIds);
+    }
+
+    private void doEvict(Collection<Long> productIds) {
+        localCache.invalidateAll(productIds);
+        try {
+            redisTemplate.delete(productIds.stream().map(productId -> DETAIL_KEY_PREFIX + productId).toList());
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    productIds.stream().map(String::valueOf).collect(Collectors.joining(ID_DELIMITER)));
+        } catch (RuntimeException e) {
+            // 레디스 장애 시 L2 는 TTL 로 만료된다
+            log.warn("failed to invalidate product detail cache {}", productIds, e);
+        }
+    }
+
+    private ProductDetailResponseDTO readRedis(Long productId) {
+        String json = redisTemplate.opsForValue().get(DETAIL_KEY_PREFIX + productId);
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, ProductDetailResponseDTO.class);
+        } catch (JsonProcessingException e) {
+            log.warn("broken product detail cache entry {}", productId, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(ProductDetailResponseDTO product) {
+        try {
+            redisTemplate.opsForValue().set(DETAIL_KEY_PREFIX + product.getProductId(),
+                    objectMapper.writeValueAsString(product), redisTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("failed to cache product detail {}", product.getProductId(), e);
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.trade_ham.domain.product.controller;
 
+import com.trade_ham.domain.auth.dto.CustomOAuth2User;
 import com.trade_ham.domain.product.entity.ProductEntity;
 import com.trade_ham.domain.product.entity.ProductStatus;
+import com.trade_ham.domain.product.service.PurchaseAdmissionGate;
 import com.trade_ham.domain.product.service.PurchaseProductService;
 import com.trade_ham.global.common.exception.AccessDeniedException;
 import com.trade_ham.global.common.exception.ErrorCode;
 import com.trade_ham.global.common.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 
@@ -15,15 +18,37 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/v1/product")
 public class PurchaseProductController {
     private final PurchaseProductService productService;
+    private final PurchaseAdmissionGate purchaseAdmissionGate;
 
     @GetMapping("/purchase-page/{productId}")
-    public ApiResponse<String> accessPurchasePage(@PathVariable Long productId) {
+    public ApiResponse<String> accessPurchasePage(@PathVariable Long productId,
+                                                  @AuthenticationPrincipal CustomOAuth2User oAuth2User) {
 
-        productService.purchaseProduct(productId);
+        // 동시에 몰린 요청은 한 명만 들어가고 나머지는 429
+        Long buyerId = oAuth2User.getId();
+        purchaseAdmissionGate.enter(productId, buyerId, () -> productService.purchaseProduct(productId, buyerId));
 
         // 상태가 SELL이면 구매 페이지에 접근 가능
         return ApiResponse.success("구매 페이지에 접근 가능합니다.");
     }
 
+    // 구매 완료, 구매 페이지에서 예약한 구매자만 가능
+    @PostMapping("/purchase/{productId}")
+    public ApiResponse<String> completePurchase(@PathVariable Long productId,
+                                                @AuthenticationPrincipal CustomOAuth2User oAuth2User) {
 
-}
\ No newline at end of file
+        productService.completePurchase(productId, oAuth2User.getId());
+
+        return ApiResponse.success("구매가 완료되었습니다.");
+    }
+
+    // 사물함에서 물품 수령, 사물함은 다시 할당 가능해진다
+    @PostMapping("/pickup/{productId}")
+    public ApiResponse<String> pickupProduct(@PathVariable Long productId,
+                                             @AuthenticationPrincipal CustomOAuth2User oAuth2User) {
+
+        productService.completePickup(productId, oAuth2User.getId());
+
+        return ApiResponse.success("물품 수령이 완료되었습니다.");
+    }
+}
@@ -20,8 +20,10 @@ public class SearchProductController {
 
     // 물품 검색
     @GetMapping("/search")
-    public ApiResponse<List<ProductResponseDTO>> searchProducts(@RequestParam String keyword) {
-        List<ProductResponseDTO> products = searchProductService.searchProducts(keyword);
+    public ApiResponse<List<ProductResponseDTO>> searchProducts(@RequestParam String keyword,
+                                                                @RequestParam(required = false) Integer page,
+                                                                @RequestParam(required = false) Integer size) {
+        List<ProductResponseDTO> products = searchProductService.searchProducts(keyword, page, size);
 
         return ApiResponse.success(products);
     }
@@ -5,13 +5,12 @@ import com.trade_ham.domain.product.dto.ProductDTO;
 import com.trade_ham.domain.product.dto.ProductDetailResponseDTO;
 import com.trade_ham.domain.product.dto.ProductResponseDTO;
 import com.trade_ham.domain.product.service.SellProductService;
+import com.trade_ham.global.common.pagination.CursorResponse;
 import com.trade_ham.global.common.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/product")
@@ -43,11 +42,14 @@ public class SellProductController {
         return ApiResponse.success("삭제 완료");
     }
   
-    // 상태가 SELL인 전체 판매 물품 최신순으로 조회
-    // 필요한 데이터만 전달
+    // 상태가 SELL인 판매 물품 최신순으로 조회
+    // 필요한 데이터만 전달, cursor 가 없으면 첫 페이지
     @GetMapping("/all")
-    public ApiResponse<List<ProductResponseDTO>> findAllSellProducts(@AuthenticationPrincipal Long userId) {
-        List<ProductResponseDTO> products = sellProductService.findAllSellProducts(userId);
+    public ApiResponse<CursorResponse<ProductResponseDTO>> findAllSellProducts(@AuthenticationPrincipal CustomOAuth2User oAuth2User,
+                                                                               @RequestParam(required = false) String cursor,
+                                                                               @RequestParam(required = false) Integer size) {
+        Long userId = oAuth2User == null ? null : oAuth2User.getId();
+        CursorResponse<ProductResponseDTO> products = sellProductService.findAllSellProducts(userId, cursor, size);
 
         return ApiResponse.success(products);
     }
@@ -55,7 +57,7 @@ public class SellProductController {
     // 물품 상세 페이지 제공
     // 해당 물품 조회 수 증가
     @GetMapping("/{productId}/detail")
-    public ApiResponse<ProductDetailResponseDTO> findProductDetail(@AuthenticationPrincipal Long userId, @PathVariable Long productId) {
+    public ApiResponse<ProductDetailResponseDTO> findProductDetail(@AuthenticationPrincipal CustomOAuth2User oAuth2User, @PathVariable Long productId) {
         ProductDetailResponseDTO product = sellProductService.findProductDetail(productId);
 
         return ApiResponse.success(product);
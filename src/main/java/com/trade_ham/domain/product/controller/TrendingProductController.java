@@ -0,0 +1,27 @@
+package com.trade_ham.domain.product.controller;
+
+import com.trade_ham.domain.product.dto.ProductResponseDTO;
+import com.trade_ham.domain.product.service.TrendingProductService;
+import com.trade_ham.global.common.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/product")
+public class TrendingProductController {
+    private final TrendingProductService trendingProductService;
+
+    // 지금 인기 있는 상품 (조회/좋아요 시간 감쇠 점수 순, 최대 50개)
+    @GetMapping("/trending")
+    public ApiResponse<List<ProductResponseDTO>> findTrendingProducts(@RequestParam(defaultValue = "10") int size) {
+        List<ProductResponseDTO> products = trendingProductService.findTrendingProducts(size);
+
+        return ApiResponse.success(products);
+    }
+}
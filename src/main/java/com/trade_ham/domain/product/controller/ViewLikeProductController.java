@@ -1,29 +1,45 @@
 package com.trade_ham.domain.product.controller;
 
+import com.trade_ham.domain.auth.dto.CustomOAuth2User;
+import com.trade_ham.domain.product.service.ProductLikeStatusResolver;
 import com.trade_ham.domain.product.service.ViewLikeProductService;
 import com.trade_ham.global.common.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/product")
 public class ViewLikeProductController {
 
     private final ViewLikeProductService viewLikeProductService;
+    private final ProductLikeStatusResolver productLikeStatusResolver;
 
     @PatchMapping("/like/{productId}")
-    public ApiResponse<String> clickLikeButton(@AuthenticationPrincipal Long userId, @PathVariable Long productId) {
-        viewLikeProductService.incrementLike(userId, productId);
+    public ApiResponse<String> clickLikeButton(@AuthenticationPrincipal CustomOAuth2User oAuth2User, @PathVariable Long productId) {
+        viewLikeProductService.incrementLike(oAuth2User.getId(), productId);
 
         return ApiResponse.success("좋아요 완료");
     }
 
     @PatchMapping("/like/cancel/{productId}")
-    public ApiResponse<String> cancelLikeButton(@AuthenticationPrincipal Long userId, @PathVariable Long productId) {
-        viewLikeProductService.decrementLike(userId, productId);
+    public ApiResponse<String> cancelLikeButton(@AuthenticationPrincipal CustomOAuth2User oAuth2User, @PathVariable Long productId) {
+        viewLikeProductService.decrementLike(oAuth2User.getId(), productId);
 
         return ApiResponse.success("좋아요 취소 완료");
     }
+
+    // 여러 상품의 좋아요 여부 일괄 조회 (최대 100개)
+    @GetMapping("/like/status")
+    public ApiResponse<Map<Long, Boolean>> findLikeStatus(@AuthenticationPrincipal CustomOAuth2User oAuth2User,
+                                                         @RequestParam List<Long> productIds) {
+        Long userId = oAuth2User == null ? null : oAuth2User.getId();
+        Map<Long, Boolean> likeStatus = productLikeStatusResolver.resolve(userId, productIds);
+
+        return ApiResponse.success(likeStatus);
+    }
 }
@@ -3,8 +3,12 @@ package com.trade_ham.domain.product.dto;
 import com.trade_ham.domain.product.entity.ProductEntity;
 import com.trade_ham.domain.product.entity.ProductStatus;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
 public class ProductDetailResponseDTO {
     private Long productId;
     private String name;
@@ -14,6 +18,7 @@ public class ProductDetailResponseDTO {
     private Long view;
     private Long like;
     private Boolean isLiked;
+    private LocalDateTime createdAt;
 
     public ProductDetailResponseDTO(ProductEntity productEntity) {
         this.productId = productEntity.getProductId();
@@ -23,5 +28,19 @@ public class ProductDetailResponseDTO {
         this.status = productEntity.getStatus();
         this.view = productEntity.getViews();
         this.like = productEntity.getLikes();
+        this.createdAt = productEntity.getCreatedAt();
+    }
+
+    // 캐시에 저장된 인스턴스는 공유되므로 응답별 값을 바꿀 때는 복사본을 사용
+    public ProductDetailResponseDTO(ProductDetailResponseDTO source) {
+        this.productId = source.productId;
+        this.name = source.name;
+        this.description = source.description;
+        this.price = source.price;
+        this.status = source.status;
+        this.view = source.view;
+        this.like = source.like;
+        this.isLiked = source.isLiked;
+        this.createdAt = source.createdAt;
     }
 }
@@ -5,6 +5,8 @@ import com.trade_ham.domain.product.entity.ProductStatus;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @NoArgsConstructor
 public class ProductResponseDTO {
@@ -16,6 +18,25 @@ public class ProductResponseDTO {
     private Long view;
     private Long like;
     private Boolean isLiked;
+    private LocalDateTime createdAt;
+
+    // 목록 조회용 JPQL 생성자 표현식 (엔티티를 거치지 않고 필요한 컬럼만 조회)
+    public ProductResponseDTO(Long productId, String name, String description, Long price,
+                              ProductStatus status, Long view, Long like, LocalDateTime createdAt) {
+        this.productId = productId;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.status = status;
+        this.view = view;
+        this.like = like;
+        this.createdAt = createdAt;
+    }
+
+    public ProductResponseDTO(ProductDetailResponseDTO detail) {
+        this(detail.getProductId(), detail.getName(), detail.getDescription(), detail.getPrice(),
+                detail.getStatus(), detail.getView(), detail.getLike(), detail.getCreatedAt());
+    }
 
     public ProductResponseDTO(ProductEntity productEntity) {
         this.productId = productEntity.getProductId();
@@ -25,5 +46,6 @@ public class ProductResponseDTO {
         this.status = productEntity.getStatus();
         this.view = productEntity.getViews();
         this.like = productEntity.getLikes();
+        this.createdAt = productEntity.getCreatedAt();
     }
 }
\ No newline at end of file
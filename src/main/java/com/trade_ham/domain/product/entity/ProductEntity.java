@@ -5,6 +5,7 @@ import com.trade_ham.domain.locker.entity.LockerEntity;
 import com.trade_ham.global.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 
@@ -12,13 +13,19 @@ import java.time.LocalDateTime;
 import java.util.Date;
 
 @Entity
+@Table(indexes = {
+        // 판매 목록 keyset 페이지네이션 (status, createdAt DESC, productId DESC)
+        @Index(name = "idx_product_status_created_at", columnList = "status, created_at, product_id")
+})
+@DynamicUpdate // 변경된 컬럼만 UPDATE, 상태/조회 수 등 다른 경로에서 바꾸는 컬럼을 덮어쓰지 않는다
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProductEntity extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_id_generator")
+    @SequenceGenerator(name = "product_id_generator", sequenceName = "product_entity_seq", allocationSize = 50)
     private Long productId;
     @ManyToOne
     @JoinColumn(name = "seller_id")
@@ -35,7 +42,6 @@ public class ProductEntity extends BaseEntity {
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
-    @Setter
     private ProductStatus status;
 
     @Column(nullable = false)
@@ -57,18 +63,4 @@ public class ProductEntity extends BaseEntity {
         this.description = description;
         this.price = price;
     }
-
-    public void increaseLikes(){
-        this.likes++;
-    }
-
-    public void decreaseLikes(){
-        if(this.likes>0){
-            this.likes--;
-        }
-    }
-
-    public void increaseViews(){
-        this.views++;
-    }
 }
\ No newline at end of file
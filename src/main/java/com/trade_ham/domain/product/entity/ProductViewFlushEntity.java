@@ -0,0 +1,28 @@
+package com.trade_ham.domain.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*
+조회 수 반영 기록 (product_view_flush)
+ProductViewCountBuffer 가 flushing 해시를 DB 에 반영할 때 같은 트랜잭션에서 flush id 를 남긴다.
+반영 후 레디스 정리가 실패해서 같은 해시를 다시 반영하려 하면 이 기록으로 건너뛴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "product_view_flush",
+        indexes = @Index(name = "idx_product_view_flush_flushed_at", columnList = "flushed_at"))
+public class ProductViewFlushEntity {
+
+    @Id
+    @Column(name = "flush_id", length = 36)
+    private String flushId;
+
+    @Column(name = "flushed_at", nullable = false)
+    private LocalDateTime flushedAt;
+}
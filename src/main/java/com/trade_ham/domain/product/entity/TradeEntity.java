@@ -9,25 +9,32 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+        // 구매 내역 keyset 페이지네이션 (buyer_id, trade_id DESC)
+        @Index(name = "idx_trade_buyer_trade", columnList = "buyer_id, trade_id"),
+        // 판매 내역 keyset 페이지네이션 (seller_id, trade_id DESC)
+        @Index(name = "idx_trade_seller_trade", columnList = "seller_id, trade_id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class TradeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trade_id_generator")
+    @SequenceGenerator(name = "trade_id_generator", sequenceName = "trade_entity_seq", allocationSize = 50)
     private Long tradeId;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "buyer_id")
     private UserEntity buyer;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "seller_id")
     private UserEntity seller;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "locker_id")
     private LockerEntity lockerEntity;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id")
     private ProductEntity productEntity;
 
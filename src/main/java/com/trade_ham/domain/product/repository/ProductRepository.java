@@ -1,34 +1,68 @@
 package com.trade_ham.domain.product.repository;
 
-import com.trade_ham.domain.auth.entity.UserEntity;
+import com.trade_ham.domain.product.dto.ProductResponseDTO;
 import com.trade_ham.domain.product.entity.ProductEntity;
 import com.trade_ham.domain.product.entity.ProductStatus;
-import io.lettuce.core.dynamic.annotation.Param;
-import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<ProductEntity, Long> {
+
+    // 목록 조회는 연관 엔티티(seller, buyer, locker)를 로딩하지 않도록 DTO 컬럼만 조회
+    String PRODUCT_RESPONSE_PROJECTION = "SELECT new com.trade_ham.domain.product.dto.ProductResponseDTO(" +
+            "p.productId, p.name, p.description, p.price, p.status, p.views, p.likes, p.createdAt) " +
+            "FROM ProductEntity p ";
+
     Optional<ProductEntity> findByProductId(Long productId);
     List<ProductEntity> findByNameContainingIgnoreCase(String name);
-    List<ProductEntity> findBySeller(UserEntity seller);
-    List<ProductEntity> findByBuyer(UserEntity buyer);
-    List<ProductEntity> findByStatusOrderByCreatedAtDesc(ProductStatus status);
-
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT p FROM ProductEntity p WHERE p.productId = :productId")
-    Optional<ProductEntity> findByIdWithPessimisticLock(@Param("productId") Long productId);
-
-    @Query("SELECT p FROM ProductEntity p " +
-            "WHERE (LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-            "AND p.status = 'SELL' " +
-            "ORDER BY p.createdAt DESC")
-    List<ProductEntity> searchProducts(@Param("keyword") String keyword);
+
+    @Query(PRODUCT_RESPONSE_PROJECTION +
+            "WHERE p.status = :status")
+    List<ProductResponseDTO> findResponsesByStatus(@Param("status") ProductStatus status);
+
+    @Query(PRODUCT_RESPONSE_PROJECTION +
+            "WHERE p.seller.id = :sellerId " +
+            "ORDER BY p.createdAt DESC, p.productId DESC")
+    List<ProductResponseDTO> findResponsesBySellerId(@Param("sellerId") Long sellerId);
+
+    @Query(PRODUCT_RESPONSE_PROJECTION +
+            "WHERE p.productId IN :productIds")
+    List<ProductResponseDTO> findResponsesByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    @Query("SELECT p.productId FROM ProductEntity p WHERE p.productId IN :productIds AND p.status = :status")
+    List<Long> findProductIdsByStatus(@Param("productIds") Collection<Long> productIds, @Param("status") ProductStatus status);
+
+    // 판매 목록 첫 페이지
+    @Query(PRODUCT_RESPONSE_PROJECTION +
+            "WHERE p.status = :status " +
+            "ORDER BY p.createdAt DESC, p.productId DESC")
+    List<ProductResponseDTO> findFirstPageByStatus(@Param("status") ProductStatus status, Pageable pageable);
+
+    // 판매 목록 다음 페이지, (createdAt, productId) 커서 이후부터 조회
+    @Query(PRODUCT_RESPONSE_PROJECTION +
+            "WHERE p.status = :status " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.productId < :productId)) " +
+            "ORDER BY p.createdAt DESC, p.productId DESC")
+    List<ProductResponseDTO> findPageByStatusAfter(@Param("status") ProductStatus status,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("productId") Long productId,
+                                                   Pageable pageable);
+
+    // 상태 전이 compare-and-set, 현재 상태가 from 일 때만 to 로 변경하고 변경된 row 수 반환
+    @Modifying
+    @Query("UPDATE ProductEntity p SET p.status = :to, p.modifiedAt = CURRENT_TIMESTAMP " +
+            "WHERE p.productId = :productId AND p.status = :from")
+    int updateStatus(@Param("productId") Long productId,
+                     @Param("from") ProductStatus from,
+                     @Param("to") ProductStatus to);
 
 }
 
@@ -1,6 +1,65 @@
 package com.trade_ham.domain.product.repository;
 
+import com.trade_ham.domain.mypage.dto.PurchaseHistoryResponseDTO;
+import com.trade_ham.domain.mypage.dto.SalesHistoryResponseDTO;
 import com.trade_ham.domain.product.entity.TradeEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TradeRepository extends JpaRepository<TradeEntity, Long> {}
+import java.util.List;
+
+public interface TradeRepository extends JpaRepository<TradeEntity, Long> {
+
+    // 구매 내역: 거래 + 상품 + 판매자 닉네임 + 사물함 번호를 쿼리 한 번으로 조회
+    String PURCHASE_HISTORY_PROJECTION = "SELECT new com.trade_ham.domain.mypage.dto.PurchaseHistoryResponseDTO(" +
+            "t.tradeId, p.productId, p.name, p.price, p.status, s.nickname, l.lockerNumber) " +
+            "FROM TradeEntity t " +
+            "JOIN t.productEntity p " +
+            "JOIN t.seller s " +
+            "LEFT JOIN t.lockerEntity l ";
+
+    // 구매 내역 첫 페이지
+    @Query(PURCHASE_HISTORY_PROJECTION +
+            "WHERE t.buyer.id = :buyerId " +
+            "ORDER BY t.tradeId DESC")
+    List<PurchaseHistoryResponseDTO> findPurchaseHistoryFirstPage(@Param("buyerId") Long buyerId, Pageable pageable);
+
+    // 구매 내역 다음 페이지, tradeId 커서 이후부터 조회
+    @Query(PURCHASE_HISTORY_PROJECTION +
+            "WHERE t.buyer.id = :buyerId AND t.tradeId < :tradeId " +
+            "ORDER BY t.tradeId DESC")
+    List<PurchaseHistoryResponseDTO> findPurchaseHistoryAfter(@Param("buyerId") Long buyerId,
+                                                              @Param("tradeId") Long tradeId,
+                                                              Pageable pageable);
+
+    // 판매 내역: 거래 + 상품 + 구매자 닉네임 + 사물함 번호를 쿼리 한 번으로 조회
+    String SALES_HISTORY_PROJECTION = "SELECT new com.trade_ham.domain.mypage.dto.SalesHistoryResponseDTO(" +
+            "t.tradeId, p.productId, p.name, p.price, p.status, b.nickname, l.lockerNumber) " +
+            "FROM TradeEntity t " +
+            "JOIN t.productEntity p " +
+            "JOIN t.buyer b " +
+            "LEFT JOIN t.lockerEntity l ";
+
+    // 판매 내역 첫 페이지
+    @Query(SALES_HISTORY_PROJECTION +
+            "WHERE t.seller.id = :sellerId " +
+            "ORDER BY t.tradeId DESC")
+    List<SalesHistoryResponseDTO> findSalesHistoryFirstPage(@Param("sellerId") Long sellerId, Pageable pageable);
+
+    // 판매 내역 다음 페이지, tradeId 커서 이후부터 조회
+    @Query(SALES_HISTORY_PROJECTION +
+            "WHERE t.seller.id = :sellerId AND t.tradeId < :tradeId " +
+            "ORDER BY t.tradeId DESC")
+    List<SalesHistoryResponseDTO> findSalesHistoryAfter(@Param("sellerId") Long sellerId,
+                                                        @Param("tradeId") Long tradeId,
+                                                        Pageable pageable);
+
+    // 거래 수 (레디스 카운터가 없을 때만 사용, 인덱스 범위만 읽는다)
+    long countByBuyer_Id(Long buyerId);
+
+    long countBySeller_Id(Long sellerId);
+
+    boolean existsByProductEntity_ProductIdAndBuyer_Id(Long productId, Long buyerId);
+}
@@ -0,0 +1,193 @@
+package com.trade_ham.domain.product.search;
+
+import com.trade_ham.domain.product.dto.ProductResponseDTO;
+import com.trade_ham.domain.product.entity.ProductStatus;
+import com.trade_ham.global.common.transaction.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+상품 이름/설명에 대한 인메모리 역색인
+한글은 띄어쓰기 단위 토큰으로는 부분 검색이 되지 않으므로 1-gram, 2-gram 을 색인한다.
+검색어의 gram 목록으로 후보를 교집합한 뒤 실제 포함 여부를 확인해서
+기존 LIKE '%keyword%' 와 같은 결과를 풀스캔 없이 돌려준다.
+SELL 상태 상품만 색인에 유지한다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    private static final int NAME_MATCH_SCORE = 2;
+    private static final int DESCRIPTION_MATCH_SCORE = 1;
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, SearchDocument> documents = new ConcurrentHashMap<>();
+
+    // 인덱스 전체를 다시 구성 (애플리케이션 시작 시)
+    public void rebuild(Collection<ProductResponseDTO> products) {
+        postings.clear();
+        documents.clear();
+        products.forEach(this::doIndex);
+        log.info("product search index rebuilt: {} documents, {} grams", documents.size(), postings.size());
+    }
+
+    // 상품 생성/수정/상태 변경 시 호출, SELL 이 아니면 색인에서 제거
+    // 트랜잭션 안이면 커밋 후에 반영한다 (롤백된 변경이 색인에 남지 않도록)
+    public void index(ProductResponseDTO product) {
+        TransactionCallbacks.afterCommit(() -> doIndex(product));
+    }
+
+    public void remove(Long productId) {
+        TransactionCallbacks.afterCommit(() -> doRemove(productId));
+    }
+
+    private void doIndex(ProductResponseDTO product) {
+        if (product.getStatus() != ProductStatus.SELL) {
+            doRemove(product.getProductId());
+            return;
+        }
+
+        SearchDocument document = SearchDocument.from(product);
+        SearchDocument previous = documents.put(document.getProductId(), document);
+
+        Set<String> grams = grams(document);
+        if (previous != null) {
+            Set<String> staleGrams = grams(previous);
+            staleGrams.removeAll(grams);
+            staleGrams.forEach(gram -> unlink(gram, document.getProductId()));
+        }
+        grams.forEach(gram -> link(gram, document.getProductId()));
+    }
+
+    private void doRemove(Long productId) {
+        SearchDocument previous = documents.remove(productId);
+        if (previous != null) {
+            grams(previous).forEach(gram -> unlink(gram, productId));
+        }
+    }
+
+    /*
+    검색어 gram 의 posting 교집합 -> 실제 포함 여부 확인 -> 점수순 정렬 -> 페이지 반환
+    점수: 이름 포함 2점, 설명 포함 1점, 동점이면 최신 상품(productId 큰 순) 우선
+     */
+    public List<ProductResponseDTO> search(String keyword, int page, int size) {
+        String normalizedKeyword = SearchDocument.normalize(keyword).strip();
+        if (normalizedKeyword.isEmpty()) {
+            return List.of();
+        }
+
+        List<ScoredDocument> hits = new ArrayList<>();
+        for (Long productId : candidates(normalizedKeyword)) {
+            SearchDocument document = documents.get(productId);
+            if (document == null) {
+                continue;
+            }
+            int score = 0;
+            if (document.getNormalizedName().contains(normalizedKeyword)) {
+                score += NAME_MATCH_SCORE;
+            }
+            if (document.getNormalizedDescription().contains(normalizedKeyword)) {
+                score += DESCRIPTION_MATCH_SCORE;
+            }
+            if (score > 0) {
+                hits.add(new ScoredDocument(document, score));
+            }
+        }
+
+        return hits.stream()
+                .sorted(Comparator.comparingInt(ScoredDocument::score).reversed()
+                        .thenComparing(hit -> hit.document().getProductId(), Comparator.reverseOrder()))
+                .skip((long) page * size)
+                .limit(size)
+                .map(hit -> hit.document().toResponseDTO())
+                .toList();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    // 가장 작은 posting 부터 교집합
+    private Set<Long> candidates(String normalizedKeyword) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : queryGrams(normalizedKeyword)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void link(String gram, Long productId) {
+        postings.compute(gram, (key, posting) -> {
+            Set<Long> target = posting == null ? ConcurrentHashMap.newKeySet() : posting;
+            target.add(productId);
+            return target;
+        });
+    }
+
+    private void unlink(String gram, Long productId) {
+        postings.computeIfPresent(gram, (key, posting) -> {
+            posting.remove(productId);
+            return posting.isEmpty() ? null : posting;
+        });
+    }
+
+    private static Set<String> grams(SearchDocument document) {
+        Set<String> grams = new HashSet<>();
+        addGrams(grams, document.getNormalizedName());
+        addGrams(grams, document.getNormalizedDescription());
+        return grams;
+    }
+
+    private static void addGrams(Set<String> grams, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            if (Character.isWhitespace(current)) {
+                continue;
+            }
+            grams.add(String.valueOf(current));
+            if (i + 1 < text.length() && !Character.isWhitespace(text.charAt(i + 1))) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+    }
+
+    // 한 글자는 1-gram, 그 이상은 공백을 포함하지 않는 2-gram 들로 후보를 찾는다
+    private static List<String> queryGrams(String normalizedKeyword) {
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i < normalizedKeyword.length(); i++) {
+            char current = normalizedKeyword.charAt(i);
+            if (Character.isWhitespace(current)) {
+                continue;
+            }
+            if (i + 1 < normalizedKeyword.length() && !Character.isWhitespace(normalizedKeyword.charAt(i + 1))) {
+                grams.add(normalizedKeyword.substring(i, i + 2));
+            } else if (i == 0 || Character.isWhitespace(normalizedKeyword.charAt(i - 1))) {
+                // 앞뒤가 공백인 한 글자 단어
+                grams.add(String.valueOf(current));
+            }
+        }
+        return grams;
+    }
+
+    private record ScoredDocument(SearchDocument document, int score) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.trade_ham.domain.product.search;
+
+import com.trade_ham.domain.product.entity.ProductStatus;
+import com.trade_ham.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 애플리케이션 시작 시 SELL 상태 상품으로 검색 인덱스 구성
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexInitializer implements ApplicationRunner {
+
+    private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void run(ApplicationArguments args) {
+        productSearchIndex.rebuild(productRepository.findResponsesByStatus(ProductStatus.SELL));
+    }
+}
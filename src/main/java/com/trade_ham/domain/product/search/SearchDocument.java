@@ -0,0 +1,64 @@
+package com.trade_ham.domain.product.search;
+
+import com.trade_ham.domain.product.dto.ProductResponseDTO;
+import com.trade_ham.domain.product.entity.ProductStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/*
+검색 인덱스에 저장되는 상품 스냅샷
+검색 결과는 이 스냅샷만으로 응답하므로 MySQL 을 조회하지 않는다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class SearchDocument {
+
+    private final Long productId;
+    private final String name;
+    private final String description;
+    private final Long price;
+    private final ProductStatus status;
+    private final Long views;
+    private final Long likes;
+    private final LocalDateTime createdAt;
+
+    // 검색용 소문자 정규화 필드
+    private final String normalizedName;
+    private final String normalizedDescription;
+
+    public static SearchDocument from(ProductResponseDTO product) {
+        return new SearchDocument(
+                product.getProductId(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getStatus(),
+                product.getView(),
+                product.getLike(),
+                product.getCreatedAt(),
+                normalize(product.getName()),
+                normalize(product.getDescription())
+        );
+    }
+
+    public ProductResponseDTO toResponseDTO() {
+        ProductResponseDTO responseDTO = new ProductResponseDTO();
+        responseDTO.setProductId(productId);
+        responseDTO.setName(name);
+        responseDTO.setDescription(description);
+        responseDTO.setPrice(price);
+        responseDTO.setStatus(status);
+        responseDTO.setView(views);
+        responseDTO.setLike(likes);
+        responseDTO.setCreatedAt(createdAt);
+        return responseDTO;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
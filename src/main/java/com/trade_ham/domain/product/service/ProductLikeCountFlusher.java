@@ -0,0 +1,105 @@
+package com.trade_ham.domain.product.service;
+
+import com.trade_ham.domain.product.cache.ProductDetailCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.trade_ham.domain.product.service.ViewLikeProductService.DIRTY_LIKE_PRODUCTS_KEY;
+import static com.trade_ham.domain.product.service.ViewLikeProductService.PRODUCT_LIKED_USERS_KEY_PREFIX;
+
+/*
+좋아요 수 DB 반영
+좋아요 상태가 바뀐 상품(dirty 집합)을 SPOP 으로 꺼내 SCARD 값을 그대로 덮어쓴다.
+증가분이 아닌 절대값을 쓰므로 같은 상품을 여러 번 반영해도 결과가 같다.
+ */
+@Slf4j
+@Component
+public class ProductLikeCountFlusher {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPDATE_LIKES_SQL =
+            "UPDATE product_entity SET likes = ? WHERE product_id = ?";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductDetailCache productDetailCache;
+
+    public ProductLikeCountFlusher(RedisTemplate<String, String> redisTemplate,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   ProductDetailCache productDetailCache) {
+        this.redisTemplate = redisTemplate;
+        this.productDetailCache = productDetailCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${product.like.flush-interval-ms:5000}")
+    public void flush() {
+        // 최초 보정 전에는 상품 좋아요 집합이 비어 있으므로 반영하지 않는다
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(ProductLikeReconciler.RECONCILED_KEY))) {
+            return;
+        }
+
+        List<String> productIds;
+        do {
+            productIds = redisTemplate.opsForSet().pop(DIRTY_LIKE_PRODUCTS_KEY, BATCH_SIZE);
+            if (productIds == null || productIds.isEmpty()) {
+                return;
+            }
+
+            try {
+                flushBatch(productIds);
+            } catch (DataAccessException e) {
+                // 다음 주기에 다시 반영
+                redisTemplate.opsForSet().add(DIRTY_LIKE_PRODUCTS_KEY, productIds.toArray(String[]::new));
+                log.warn("failed to flush like counts of {} products", productIds.size(), e);
+                return;
+            }
+        } while (productIds.size() == BATCH_SIZE);
+    }
+
+    private void flushBatch(List<String> productIds) {
+        List<Long> counts = countLikes(productIds);
+
+        List<Object[]> batchArgs = new ArrayList<>(productIds.size());
+        for (int i = 0; i < productIds.size(); i++) {
+            batchArgs.add(new Object[]{counts.get(i), Long.valueOf(productIds.get(i))});
+        }
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_LIKES_SQL, batchArgs));
+        productDetailCache.evictAll(productIds.stream().map(Long::valueOf).toList());
+        log.debug("flushed like counts of {} products", batchArgs.size());
+    }
+
+    // SCARD 를 파이프라인으로 한 번에 조회
+    private List<Long> countLikes(List<String> productIds) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (String productId : productIds) {
+                    operations.opsForSet().size(PRODUCT_LIKED_USERS_KEY_PREFIX + productId);
+                }
+                return null;
+            }
+        });
+
+        return results.stream()
+                .map(result -> result == null ? 0L : (Long) result)
+                .toList();
+    }
+}
@@ -0,0 +1,135 @@
+package com.trade_ham.domain.product.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.trade_ham.domain.product.service.ViewLikeProductService.DIRTY_LIKE_PRODUCTS_KEY;
+import static com.trade_ham.domain.product.service.ViewLikeProductService.PRODUCT_LIKED_USERS_KEY_PREFIX;
+import static com.trade_ham.domain.product.service.ViewLikeProductService.USER_LIKED_PRODUCTS_KEY_PREFIX;
+
+/*
+좋아요 데이터 정합성 보정
+사용자 좋아요 목록(user:like:products)을 원본으로 보고
+1. 사용자 목록에 있는데 상품 집합에 없는 항목 추가
+2. 상품 집합에 있는데 사용자 목록에 없는 항목 제거
+3. DB 에 좋아요 수가 남아 있는 상품과 손댄 상품을 dirty 로 표시 -> flusher 가 절대값으로 덮어씀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductLikeReconciler {
+
+    public static final String RECONCILED_KEY = "product:like:reconciled";
+    private static final String LOCK_KEY = "product:like:reconcile-lock";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+    private static final long SCAN_COUNT = 1000;
+
+    private static final String LIKED_PRODUCT_IDS_SQL =
+            "SELECT product_id FROM product_entity WHERE likes > 0";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> reconcileLikeScript;
+    private final RedisScript<Long> lockReleaseScript;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 상품 좋아요 집합이 만들어지기 전이라면 시작 시 한 번 보정
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(RECONCILED_KEY))) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${product.like.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        // 여러 서버가 동시에 보정하지 않도록 잠금, 내가 잡은 잠금만 해제
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockToken, LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            Set<String> touchedProductIds = new HashSet<>();
+            long fixed = addMissingLikes(touchedProductIds) + removeStaleLikes(touchedProductIds);
+
+            touchedProductIds.addAll(jdbcTemplate.queryForList(LIKED_PRODUCT_IDS_SQL, String.class));
+            if (!touchedProductIds.isEmpty()) {
+                redisTemplate.opsForSet().add(DIRTY_LIKE_PRODUCTS_KEY, touchedProductIds.toArray(String[]::new));
+            }
+            redisTemplate.opsForValue().set(RECONCILED_KEY, String.valueOf(System.currentTimeMillis()));
+
+            log.info("like reconciliation fixed {} entries, marked {} products dirty in {} ms",
+                    fixed, touchedProductIds.size(), System.currentTimeMillis() - startedAt);
+        } finally {
+            redisTemplate.execute(lockReleaseScript, List.of(LOCK_KEY), lockToken);
+        }
+    }
+
+    private long addMissingLikes(Set<String> touchedProductIds) {
+        long fixed = 0;
+        try (Cursor<String> keys = scan(USER_LIKED_PRODUCTS_KEY_PREFIX)) {
+            while (keys.hasNext()) {
+                String userKey = keys.next();
+                String userId = userKey.substring(USER_LIKED_PRODUCTS_KEY_PREFIX.length());
+                Set<String> productIds = redisTemplate.opsForSet().members(userKey);
+                if (productIds == null) {
+                    continue;
+                }
+                for (String productId : productIds) {
+                    fixed += reconcile(userId, productId);
+                    touchedProductIds.add(productId);
+                }
+            }
+        }
+        return fixed;
+    }
+
+    private long removeStaleLikes(Set<String> touchedProductIds) {
+        long fixed = 0;
+        try (Cursor<String> keys = scan(PRODUCT_LIKED_USERS_KEY_PREFIX)) {
+            while (keys.hasNext()) {
+                String productKey = keys.next();
+                String productId = productKey.substring(PRODUCT_LIKED_USERS_KEY_PREFIX.length());
+                Set<String> userIds = redisTemplate.opsForSet().members(productKey);
+                if (userIds == null) {
+                    continue;
+                }
+                for (String userId : userIds) {
+                    fixed += reconcile(userId, productId);
+                }
+                touchedProductIds.add(productId);
+            }
+        }
+        return fixed;
+    }
+
+    private long reconcile(String userId, String productId) {
+        Long changed = redisTemplate.execute(
+                reconcileLikeScript,
+                List.of(USER_LIKED_PRODUCTS_KEY_PREFIX + userId, PRODUCT_LIKED_USERS_KEY_PREFIX + productId),
+                productId, userId
+        );
+        return changed == null ? 0 : changed;
+    }
+
+    private Cursor<String> scan(String prefix) {
+        return redisTemplate.scan(ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build());
+    }
+}
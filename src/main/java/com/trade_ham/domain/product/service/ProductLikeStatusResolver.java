@@ -0,0 +1,52 @@
+package com.trade_ham.domain.product.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.trade_ham.domain.product.service.ViewLikeProductService.USER_LIKED_PRODUCTS_KEY_PREFIX;
+
+/*
+사용자의 좋아요 여부를 필요한 상품 ID 에 대해서만 확인
+사용자 좋아요 집합 전체(SMEMBERS)를 가져오지 않고 SMISMEMBER 한 번으로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductLikeStatusResolver {
+
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private final RedisTemplate<String, String> redisSetTemplate;
+
+    // productIds 순서를 유지한 상품 ID -> 좋아요 여부
+    public Map<Long, Boolean> resolve(Long userId, Collection<Long> productIds) {
+        if (productIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("too many product ids");
+        }
+
+        Map<Long, Boolean> likeStatus = new LinkedHashMap<>();
+        if (productIds.isEmpty()) {
+            return likeStatus;
+        }
+
+        // 비로그인 사용자는 모두 false
+        if (userId == null) {
+            productIds.forEach(productId -> likeStatus.put(productId, false));
+            return likeStatus;
+        }
+
+        Object[] members = productIds.stream()
+                .map(String::valueOf)
+                .toArray();
+        Map<Object, Boolean> memberships = redisSetTemplate.opsForSet()
+                .isMember(USER_LIKED_PRODUCTS_KEY_PREFIX + userId, members);
+
+        productIds.forEach(productId -> likeStatus.put(productId,
+                memberships != null && Boolean.TRUE.equals(memberships.get(String.valueOf(productId)))));
+        return likeStatus;
+    }
+}
@@ -0,0 +1,167 @@
+package com.trade_ham.domain.product.service;
+
+import com.trade_ham.domain.product.cache.ProductDetailCache;
+import com.trade_ham.domain.product.dto.ProductResponseDTO;
+import com.trade_ham.domain.product.entity.ProductStatus;
+import com.trade_ham.domain.product.repository.ProductRepository;
+import com.trade_ham.domain.product.search.ProductSearchIndex;
+import com.trade_ham.global.common.transaction.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+구매 예약 (CHECK 상태)
+구매 페이지에 들어오면 SELL -> CHECK 로 바꾸고 구매자 소유의 예약을 TTL 과 함께 남긴다.
+product:reservation:{productId} = buyerId (TTL)
+product:reservation:expiry      = sorted set, member productId / score 만료 시각(ms)
+
+구매 완료는 예약을 가진 구매자만 할 수 있고,
+만료된 예약은 스케줄러가 batch 단위로 CHECK -> SELL 로 되돌린다.
+ */
+@Slf4j
+@Service
+public class ProductReservationService {
+
+    public static final String RESERVATION_KEY_PREFIX = "product:reservation:";
+    public static final String RESERVATION_EXPIRY_KEY = "product:reservation:expiry";
+    private static final String SWEEP_LOCK_KEY = "product:reservation:sweep-lock";
+    private static final Duration SWEEP_LOCK_TTL = Duration.ofMinutes(1);
+    // 한 번 실행에 쓰는 최대 시간, 잠금 TTL 안에 끝나도록 절반으로 제한
+    private static final Duration SWEEP_TIME_BUDGET = SWEEP_LOCK_TTL.dividedBy(2);
+
+    private final ProductRepository productRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> lockReleaseScript;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductDetailCache productDetailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration reservationTtl;
+    private final int sweepBatchSize;
+
+    public ProductReservationService(ProductRepository productRepository,
+                                     RedisTemplate<String, String> redisTemplate,
+                                     RedisScript<Long> lockReleaseScript,
+                                     ProductSearchIndex productSearchIndex,
+                                     ProductDetailCache productDetailCache,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${product.reservation.ttl:10m}") Duration reservationTtl,
+                                     @Value("${product.reservation.sweep-batch-size:100}") int sweepBatchSize) {
+        this.productRepository = productRepository;
+        this.redisTemplate = redisTemplate;
+        this.lockReleaseScript = lockReleaseScript;
+        this.productSearchIndex = productSearchIndex;
+        this.productDetailCache = productDetailCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reservationTtl = reservationTtl;
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    /*
+    예약 생성, SELL -> CHECK 전이에 성공한 뒤 호출한다.
+    만료 목록을 먼저 기록해서 예약 키 저장이 실패해도 스케줄러가 SELL 로 되돌린다.
+     */
+    public void reserve(Long productId, Long buyerId) {
+        long expiresAt = System.currentTimeMillis() + reservationTtl.toMillis();
+        redisTemplate.opsForZSet().add(RESERVATION_EXPIRY_KEY, String.valueOf(productId), expiresAt);
+        redisTemplate.opsForValue().set(reservationKey(productId), String.valueOf(buyerId), reservationTtl);
+    }
+
+    public boolean isHeldBy(Long productId, Long buyerId) {
+        return String.valueOf(buyerId).equals(redisTemplate.opsForValue().get(reservationKey(productId)));
+    }
+
+    // 구매 완료 후 예약 제거, 트랜잭션 안이면 커밋 후 제거
+    public void release(Long productId) {
+        TransactionCallbacks.afterCommit(() -> removeReservation(productId));
+    }
+
+    @Scheduled(fixedDelayString = "${product.reservation.sweep-interval-ms:30000}")
+    public void sweepExpired() {
+        // 여러 서버가 동시에 되돌리지 않도록 잠금, 내가 잡은 잠금만 해제
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(SWEEP_LOCK_KEY, lockToken, SWEEP_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        try {
+            long deadline = System.nanoTime() + SWEEP_TIME_BUDGET.toNanos();
+            int released = 0;
+            int swept;
+            do {
+                swept = sweepBatch(System.currentTimeMillis());
+                released += swept;
+            } while (swept == sweepBatchSize && System.nanoTime() < deadline);
+
+            if (released > 0) {
+                log.info("released {} expired purchase reservations", released);
+            }
+        } catch (RuntimeException e) {
+            log.warn("failed to sweep purchase reservations, will retry next interval", e);
+        } finally {
+            redisTemplate.execute(lockReleaseScript, List.of(SWEEP_LOCK_KEY), lockToken);
+        }
+    }
+
+    // 만료 시각이 지난 예약 최대 sweepBatchSize 개 처리, 확인한 예약 수 반환
+    private int sweepBatch(long now) {
+        Set<String> expired = redisTemplate.opsForZSet()
+                .rangeByScore(RESERVATION_EXPIRY_KEY, 0, now, 0, sweepBatchSize);
+        if (expired == null || expired.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> candidates = new ArrayList<>();
+        for (String member : expired) {
+            Long productId = Long.valueOf(member);
+            // 예약 키가 남아 있으면 (다시 예약됐거나 키가 점수보다 늦게 만료) 키의 남은 TTL 로 만료 시각을 다시 잡는다
+            Long remainingMs = redisTemplate.getExpire(reservationKey(productId), TimeUnit.MILLISECONDS);
+            if (remainingMs != null && remainingMs > 0) {
+                redisTemplate.opsForZSet().add(RESERVATION_EXPIRY_KEY, member, now + remainingMs);
+            } else {
+                candidates.add(productId);
+            }
+        }
+
+        // CHECK 인 경우에만 SELL 로 되돌린다, 이미 구매 완료(WAIT)된 상품은 그대로
+        List<Long> reverted = transactionTemplate.execute(status -> candidates.stream()
+                .filter(productId -> productRepository.updateStatus(productId, ProductStatus.CHECK, ProductStatus.SELL) == 1)
+                .toList());
+
+        // 처리한 예약만 만료 목록에서 제거 (다시 잡은 예약은 남긴다)
+        if (!candidates.isEmpty()) {
+            redisTemplate.opsForZSet().remove(RESERVATION_EXPIRY_KEY,
+                    candidates.stream().map(String::valueOf).toArray());
+        }
+
+        if (reverted != null && !reverted.isEmpty()) {
+            // 다시 판매 중이므로 검색 결과에 포함
+            List<ProductResponseDTO> products = productRepository.findResponsesByProductIdIn(reverted);
+            products.forEach(productSearchIndex::index);
+            productDetailCache.evictAll(reverted);
+        }
+        return expired.size();
+    }
+
+    private void removeReservation(Long productId) {
+        redisTemplate.delete(reservationKey(productId));
+        redisTemplate.opsForZSet().remove(RESERVATION_EXPIRY_KEY, String.valueOf(productId));
+    }
+
+    private static String reservationKey(Long productId) {
+        return RESERVATION_KEY_PREFIX + productId;
+    }
+}
@@ -0,0 +1,139 @@
+package com.trade_ham.domain.product.service;
+
+import com.trade_ham.domain.product.cache.ProductDetailCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/*
+조회 수 write-behind 버퍼
+상세 조회마다 상품 row 를 UPDATE 하지 않고 레디스 해시에 증가분만 쌓는다.
+스케줄러가 주기적으로 누적된 증가분을 한 번의 batch UPDATE 로 DB 에 반영한다.
+
+pending 해시 -> (RENAME, flush id 발급) flushing 해시 -> DB 반영 + flush id 기록 -> flushing 삭제
+DB 반영 중 실패하면 flushing 해시가 남아 다음 주기에 다시 반영된다.
+DB 반영은 커밋됐는데 flushing 삭제가 실패한 경우에는 product_view_flush 에 남은 flush id 로
+이미 반영된 해시임을 알고 다시 더하지 않는다.
+ */
+@Slf4j
+@Component
+public class ProductViewCountBuffer {
+
+    public static final String PENDING_VIEWS_KEY = "product:views:pending";
+    public static final String FLUSHING_VIEWS_KEY = "product:views:flushing";
+    private static final String FLUSH_ID_KEY = "product:views:flushing:id";
+    private static final String FLUSH_LOCK_KEY = "product:views:flush-lock";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofMinutes(1);
+    private static final Duration FLUSH_LEDGER_RETENTION = Duration.ofDays(1);
+
+    private static final String UPDATE_VIEWS_SQL =
+            "UPDATE product_entity SET views = COALESCE(views, 0) + ? WHERE product_id = ?";
+    private static final String INSERT_FLUSH_SQL =
+            "INSERT INTO product_view_flush (flush_id, flushed_at) VALUES (?, ?)";
+    private static final String DELETE_OLD_FLUSHES_SQL =
+            "DELETE FROM product_view_flush WHERE flushed_at < ?";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final HashOperations<String, String, String> hashOperations;
+    private final RedisScript<Long> viewIncrementScript;
+    private final RedisScript<String> viewFlushBeginScript;
+    private final RedisScript<Long> lockReleaseScript;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductDetailCache productDetailCache;
+
+    public ProductViewCountBuffer(RedisTemplate<String, String> redisTemplate,
+                                  RedisScript<Long> viewIncrementScript,
+                                  RedisScript<String> viewFlushBeginScript,
+                                  RedisScript<Long> lockReleaseScript,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  ProductDetailCache productDetailCache) {
+        this.redisTemplate = redisTemplate;
+        this.viewIncrementScript = viewIncrementScript;
+        this.viewFlushBeginScript = viewFlushBeginScript;
+        this.lockReleaseScript = lockReleaseScript;
+        this.productDetailCache = productDetailCache;
+        this.hashOperations = redisTemplate.opsForHash();
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 조회 수 1 증가, 아직 DB 에 반영되지 않은 증가분 (반영 중인 flushing 포함) 을 반환
+    public long increment(Long productId) {
+        Long unflushed = redisTemplate.execute(viewIncrementScript,
+                List.of(PENDING_VIEWS_KEY, FLUSHING_VIEWS_KEY), String.valueOf(productId));
+        return unflushed == null ? 0L : unflushed;
+    }
+
+    @Scheduled(fixedDelayString = "${product.view.flush-interval-ms:5000}")
+    public void flush() {
+        // 여러 서버가 동시에 flushing 해시를 반영하지 않도록 잠금, 내가 잡은 잠금만 해제
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, lockToken, FLUSH_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        try {
+            // 이전 주기에 남은 flushing 해시가 있으면 그것부터 (같은 flush id 로) 반영
+            String flushId = redisTemplate.execute(viewFlushBeginScript,
+                    List.of(PENDING_VIEWS_KEY, FLUSHING_VIEWS_KEY, FLUSH_ID_KEY), UUID.randomUUID().toString());
+            if (flushId == null) {
+                return;
+            }
+
+            Map<String, String> deltas = hashOperations.entries(FLUSHING_VIEWS_KEY);
+            List<Object[]> batchArgs = deltas.entrySet().stream()
+                    .map(entry -> new Object[]{Long.valueOf(entry.getValue()), Long.valueOf(entry.getKey())})
+                    .toList();
+
+            boolean applied = apply(flushId, batchArgs);
+            // flushing 해시와 flush id 는 한 번에 지운다 (id 만 남아 다음 해시에 재사용되지 않도록)
+            redisTemplate.delete(List.of(FLUSHING_VIEWS_KEY, FLUSH_ID_KEY));
+
+            // 캐시된 상세 정보의 조회 수가 반영 전 값이므로 제거
+            productDetailCache.evictAll(deltas.keySet().stream().map(Long::valueOf).toList());
+
+            if (applied) {
+                log.debug("flushed view counts of {} products", batchArgs.size());
+            } else {
+                log.info("view count flush {} was already applied, discarded leftover hash", flushId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("failed to flush view counts, will retry next interval", e);
+        } finally {
+            redisTemplate.execute(lockReleaseScript, List.of(FLUSH_LOCK_KEY), lockToken);
+        }
+    }
+
+    // flush id 기록과 조회 수 UPDATE 를 한 트랜잭션으로 반영, 이미 반영된 id 면 false
+    private boolean apply(String flushId, List<Object[]> batchArgs) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(INSERT_FLUSH_SQL, flushId, Timestamp.valueOf(now));
+                jdbcTemplate.batchUpdate(UPDATE_VIEWS_SQL, batchArgs);
+                jdbcTemplate.update(DELETE_OLD_FLUSHES_SQL, Timestamp.valueOf(now.minus(FLUSH_LEDGER_RETENTION)));
+            });
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
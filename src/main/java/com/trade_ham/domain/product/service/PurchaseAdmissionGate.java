@@ -0,0 +1,65 @@
+package com.trade_ham.domain.product.service;
+
+import com.trade_ham.global.common.exception.ErrorCode;
+import com.trade_ham.global.common.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/*
+인기 상품 구매 입장 제한
+같은 상품의 구매 페이지 요청이 몰리면 한 명만 DB 까지 들어가고 나머지는 DB 커넥션을 잡기 전에 429 로 돌려보낸다.
+product:admission:{productId} = buyerId (SET NX PX)
+
+- 입장한 요청이 실패하면 (이미 판매 중이 아님 등) 바로 입장권을 반납한다.
+- 성공하면 입장권은 TTL 까지 유지되고, 그동안 들어온 요청은 DB 조회 없이 거절된다.
+ */
+@Component
+public class PurchaseAdmissionGate {
+
+    public static final String ADMISSION_KEY_PREFIX = "product:admission:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> lockReleaseScript;
+    private final Duration admissionTtl;
+
+    private final Counter admittedCounter;
+    private final Counter rejectedCounter;
+
+    public PurchaseAdmissionGate(RedisTemplate<String, String> redisTemplate,
+                                 RedisScript<Long> lockReleaseScript,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${product.admission.ttl:3s}") Duration admissionTtl) {
+        this.redisTemplate = redisTemplate;
+        this.lockReleaseScript = lockReleaseScript;
+        this.admissionTtl = admissionTtl;
+        this.admittedCounter = meterRegistry.counter("product.purchase.admission", "result", "admitted");
+        this.rejectedCounter = meterRegistry.counter("product.purchase.admission", "result", "rejected");
+    }
+
+    // 입장에 성공하면 action 실행, 다른 구매자가 진행 중이면 TooManyRequestsException
+    public void enter(Long productId, Long buyerId, Runnable action) {
+        String key = ADMISSION_KEY_PREFIX + productId;
+        String ticket = String.valueOf(buyerId);
+
+        Boolean admitted = redisTemplate.opsForValue().setIfAbsent(key, ticket, admissionTtl);
+        if (!Boolean.TRUE.equals(admitted)) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException(ErrorCode.PURCHASE_IN_PROGRESS);
+        }
+        admittedCounter.increment();
+
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            redisTemplate.execute(lockReleaseScript, List.of(key), ticket);
+            throw e;
+        }
+    }
+}
@@ -3,13 +3,16 @@ package com.trade_ham.domain.product.service;
 import com.trade_ham.domain.auth.entity.UserEntity;
 import com.trade_ham.domain.auth.repository.UserRepository;
 import com.trade_ham.domain.locker.entity.LockerEntity;
-import com.trade_ham.domain.locker.repository.LockerRepository;
-import com.trade_ham.domain.notification.service.NotificationService;
+import com.trade_ham.domain.locker.service.LockerAllocator;
+import com.trade_ham.domain.notification.service.NotificationOutboxService;
+import com.trade_ham.domain.product.cache.ProductDetailCache;
+import com.trade_ham.domain.product.dto.ProductDetailResponseDTO;
 import com.trade_ham.domain.product.entity.ProductEntity;
 import com.trade_ham.domain.product.entity.ProductStatus;
 import com.trade_ham.domain.product.entity.TradeEntity;
 import com.trade_ham.domain.product.repository.ProductRepository;
 import com.trade_ham.domain.product.repository.TradeRepository;
+import com.trade_ham.domain.product.search.ProductSearchIndex;
 import com.trade_ham.global.common.exception.AccessDeniedException;
 import com.trade_ham.global.common.exception.ErrorCode;
 import com.trade_ham.global.common.exception.InvalidProductStateException;
@@ -22,61 +25,54 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PurchaseProductService {
     private final ProductRepository productRepository;
-    private final LockerRepository lockerRepository;
+    private final LockerAllocator lockerAllocator;
     private final UserRepository userRepository;
     private final TradeRepository tradeRepository;
-    private final NotificationService notificationService;
+    private final TradeCounter tradeCounter;
+    private final NotificationOutboxService notificationOutboxService;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductDetailCache productDetailCache;
+    private final ProductReservationService productReservationService;
 
     /*
     사용자가 구매 요청 버튼 클릭
-    -> 해당 물품에 락 걸기
-    -> 물품 상태 변경
+    -> 물품 상태 변경 (SELL 인 경우에만 CHECK, 조건부 UPDATE 한 번으로 처리)
+    -> 구매자 소유의 예약 생성 (만료되면 다시 SELL)
      */
     @Transactional
-    public ProductEntity purchaseProduct(Long productId) {
-        ProductEntity productEntity = productRepository.findById(productId)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
-
-        // 상태가 SELL이 아니라면 예외 발생
-        if (!productEntity.getStatus().equals(ProductStatus.SELL)) {
-            throw new AccessDeniedException(ErrorCode.ACCESS_DENIED);
-        }
-
-        productEntity = productRepository.findByIdWithPessimisticLock(productId)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
-
-
-        // ProductEntity 상태를 'CHECK'로 변경
-        productEntity.setStatus(ProductStatus.CHECK);
+    public void purchaseProduct(Long productId, Long buyerId) {
+        transitionStatus(productId, ProductStatus.SELL, ProductStatus.CHECK);
+        productReservationService.reserve(productId, buyerId);
 
-        return productEntity;
+        // 판매 중이 아니므로 검색 결과에서 제외
+        productSearchIndex.remove(productId);
+        productDetailCache.evict(productId);
     }
 
     /*
      구매 완료 버튼 클릭
      물품 상태 변경
      물품에 사물함을 할당하고 사물함 상태 변경
-     (추후 판매자에게 알림을 보내주는 서비스 구현)
+     판매자/구매자 알림 이벤트 기록 (outbox)
      거래 내역 생성
      */
     @Transactional
     public TradeEntity completePurchase(Long productId, Long buyerId) {
-        ProductEntity productEntity = productRepository.findById(productId)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
-
-        if (!productEntity.getStatus().equals(ProductStatus.CHECK)) {
-            throw new InvalidProductStateException(ErrorCode.INVALID_PRODUCT_STATE);
+        // 예약을 가진 구매자만 구매 완료 가능
+        if (!productReservationService.isHeldBy(productId, buyerId)) {
+            throw new AccessDeniedException(ErrorCode.RESERVATION_NOT_HELD);
         }
 
-        // 상태를 WAIT으로 변경
-        productEntity.setStatus(ProductStatus.WAIT);
+        // 상태를 WAIT으로 변경 (CHECK 인 경우에만), 변경 후에 엔티티를 읽어 최신 상태를 본다
+        transitionStatus(productId, ProductStatus.CHECK, ProductStatus.WAIT);
 
-        // 사용 가능한 사물함 할당
-        LockerEntity availableLockerEntity = lockerRepository.findFirstByLockerStatusTrue()
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.LOCKER_NOT_AVAILABLE));
+        ProductEntity productEntity = productRepository.findById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
+        productDetailCache.evict(productId);
+        productReservationService.release(productId);
 
-        availableLockerEntity.setLockerStatus(false);
-        lockerRepository.save(availableLockerEntity);
+        // 사용 가능한 사물함 할당 (동시 요청에도 서로 다른 사물함, 롤백 시 풀로 반환)
+        LockerEntity availableLockerEntity = lockerAllocator.allocate();
 
         productEntity.setLockerEntity(availableLockerEntity);
         productRepository.save(productEntity);
@@ -93,28 +89,57 @@ public class PurchaseProductService {
                 .build();
 
         buyer.addPurchasedProduct(productEntity);
+        tradeEntity = tradeRepository.save(tradeEntity);
+        tradeCounter.recordTrade(buyerId, productEntity.getSeller().getId());
 
+        // 판매자(사물함 정보)/구매자(구매 완료) 알림은 outbox 에 기록만 하고 비동기로 생성
+        notificationOutboxService.enqueuePurchaseCompleted(tradeEntity.getTradeId());
 
-        // 판매자에게 알림 생성
-        notificationService.createLockerNotification(
-                productEntity.getSeller(),
-                availableLockerEntity.getLockerNumber(),
-                availableLockerEntity.getLockerPassword()
-        );
-
-        // 구매자에게 구매 완료 알림
-        notificationService.createPurchaseCompleteNotification(
-                buyer,
-                productEntity.getName()
-        );
-
-        return tradeRepository.save(tradeEntity);
+        return tradeEntity;
     }
 
 
+    /*
+     구매자가 사물함에서 물품 수령
+     물품 상태 변경 (WAIT -> DONE)
+     사물함 반납
+     */
+    @Transactional
+    public void completePickup(Long productId, Long buyerId) {
+        // 구매자만 수령 가능
+        if (!tradeRepository.existsByProductEntity_ProductIdAndBuyer_Id(productId, buyerId)) {
+            throw new AccessDeniedException(ErrorCode.ACCESS_DENIED);
+        }
 
-    public ProductEntity findProductById(Long productId) {
-        return productRepository.findById(productId)
+        transitionStatus(productId, ProductStatus.WAIT, ProductStatus.DONE);
+
+        ProductEntity productEntity = productRepository.findById(productId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        LockerEntity lockerEntity = productEntity.getLockerEntity();
+        productEntity.setLockerEntity(null);
+        if (lockerEntity != null) {
+            lockerAllocator.release(lockerEntity.getId());
+        }
+        productDetailCache.evict(productId);
+    }
+
+    /*
+     상품 상태 전이는 모두 조건부 UPDATE (WHERE status = from) 로 처리한다.
+     행 잠금을 기다리지 않고, 동시에 들어온 요청 중 하나만 성공한다.
+     진 쪽은 상태가 이미 바뀐 것이므로 재시도하지 않고 409 (INVALID_PRODUCT_STATE) 를 받는다.
+     */
+    private void transitionStatus(Long productId, ProductStatus from, ProductStatus to) {
+        if (productRepository.updateStatus(productId, from, to) == 1) {
+            return;
+        }
+        if (!productRepository.existsById(productId)) {
+            throw new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        throw new InvalidProductStateException(ErrorCode.INVALID_PRODUCT_STATE);
+    }
+
+    public ProductDetailResponseDTO findProductById(Long productId) {
+        return productDetailCache.get(productId);
     }
 }
\ No newline at end of file
@@ -1,26 +1,22 @@
 package com.trade_ham.domain.product.service;
 
 import com.trade_ham.domain.product.dto.ProductResponseDTO;
-import com.trade_ham.domain.product.entity.ProductEntity;
-import com.trade_ham.domain.product.repository.ProductRepository;
+import com.trade_ham.domain.product.search.ProductSearchIndex;
+import com.trade_ham.global.common.pagination.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SearchProductService {
-    private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
 
-    @Transactional(readOnly = true)
-    public List<ProductResponseDTO> searchProducts(String keyword) {
-        List<ProductEntity> products = productRepository.searchProducts(keyword);
+    // MySQL LIKE 풀스캔 대신 인메모리 역색인으로 검색
+    public List<ProductResponseDTO> searchProducts(String keyword, Integer page, Integer size) {
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
 
-        return products.stream()
-                .map(ProductResponseDTO::new)
-                .collect(Collectors.toList());
+        return productSearchIndex.search(keyword, pageNumber, CursorResponse.normalizeSize(size));
     }
 
-}
\ No newline at end of file
+}
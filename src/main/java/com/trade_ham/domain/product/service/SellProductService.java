@@ -2,22 +2,26 @@ package com.trade_ham.domain.product.service;
 
 import com.trade_ham.domain.auth.entity.UserEntity;
 import com.trade_ham.domain.auth.repository.UserRepository;
+import com.trade_ham.domain.product.cache.ProductDetailCache;
 import com.trade_ham.domain.product.dto.ProductDetailResponseDTO;
 import com.trade_ham.domain.product.entity.ProductEntity;
 import com.trade_ham.domain.product.entity.ProductStatus;
 import com.trade_ham.domain.product.dto.ProductDTO;
 import com.trade_ham.domain.product.dto.ProductResponseDTO;
 import com.trade_ham.domain.product.repository.ProductRepository;
+import com.trade_ham.domain.product.search.ProductSearchIndex;
 import com.trade_ham.global.common.exception.ErrorCode;
 import com.trade_ham.global.common.exception.ResourceNotFoundException;
+import com.trade_ham.global.common.pagination.CursorResponse;
+import com.trade_ham.global.common.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Set;
-
-import static com.trade_ham.domain.product.service.ViewLikeProductService.USER_LIKED_PRODUCTS_KEY_PREFIX;
+import java.util.Map;
 
 
 @Service
@@ -25,10 +29,15 @@ import static com.trade_ham.domain.product.service.ViewLikeProductService.USER_L
 public class SellProductService {
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
-    private final RedisTemplate<String, String> redisSetTemplate; // Set 타입 Redis 관리
+    private final ProductLikeStatusResolver productLikeStatusResolver;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductViewCountBuffer productViewCountBuffer;
+    private final ProductDetailCache productDetailCache;
+    private final TrendingProductService trendingProductService;
 
 
     // 물품 올리기
+    @Transactional
     public ProductResponseDTO createProduct(ProductDTO productDTO, Long sellerId) {
         UserEntity seller = userRepository.findById(sellerId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
@@ -45,21 +54,28 @@ public class SellProductService {
         seller.addSellingProduct(productEntity);
 
         ProductEntity savedProductEntity = productRepository.save(productEntity);
+        ProductResponseDTO responseDTO = new ProductResponseDTO(savedProductEntity);
+        productSearchIndex.index(responseDTO);
 
-        return new ProductResponseDTO(savedProductEntity);
+        return responseDTO;
     }
 
     // 물품 수정
+    @Transactional
     public ProductResponseDTO updateProduct(Long productId, ProductDTO productDTO) {
         ProductEntity productEntity = productRepository.findById(productId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
 
         productEntity.updateProduct(productDTO.getName(), productDTO.getDescription(), productDTO.getPrice());
+        ProductResponseDTO responseDTO = new ProductResponseDTO(productEntity);
+        productSearchIndex.index(responseDTO);
+        productDetailCache.evict(productId);
 
-        return new ProductResponseDTO(productEntity);
+        return responseDTO;
     }
 
     // 물품 삭제
+    @Transactional
     public void deleteProduct(Long productId) {
         ProductEntity productEntity = productRepository.findById(productId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
@@ -71,49 +87,58 @@ public class SellProductService {
         }
 
         productRepository.delete(productEntity);
+        productSearchIndex.remove(productId);
+        productDetailCache.evict(productId);
     }
 
 
-    // 상태가 SELL인 전체 판매 물품 최신순 조회
-    // N+1 문제 발생 예상 지역
+    // 상태가 SELL인 판매 물품 최신순 조회 (커서 기반 페이지네이션)
     /*
-    게시물들을 RDB에서 들고온다.
-    레디스를 통해 해당 게시물에 사용자가 좋아요를 누른 이력이 있는지 확인하고 DTO에 담아 반환
+    게시물들을 RDB에서 (createdAt, productId) 커서 이후로 size + 1 건만 DTO 프로젝션으로 들고온다.
+    레디스를 통해 해당 페이지 게시물에 사용자가 좋아요를 누른 이력이 있는지 확인하고 DTO에 담아 반환
      */
-    public List<ProductResponseDTO> findAllSellProducts(Long userId) {
-        String userLikedProductsKey = USER_LIKED_PRODUCTS_KEY_PREFIX + userId;
-
-        List<ProductEntity> productEntities = productRepository.findByStatusOrderByCreatedAtDesc(ProductStatus.SELL);
+    @Transactional(readOnly = true)
+    public CursorResponse<ProductResponseDTO> findAllSellProducts(Long userId, String cursor, Integer size) {
+        int pageSize = CursorResponse.normalizeSize(size);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<ProductResponseDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = productRepository.findFirstPageByStatus(ProductStatus.SELL, pageable);
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            rows = productRepository.findPageByStatusAfter(
+                    ProductStatus.SELL, keysetCursor.getCreatedAt(), keysetCursor.getId(), pageable);
+        }
 
-        Set<String> likedProductIds = redisSetTemplate.opsForSet().members(userLikedProductsKey);
+        CursorResponse<ProductResponseDTO> page = CursorResponse.of(rows, pageSize,
+                product -> new KeysetCursor(product.getCreatedAt(), product.getProductId()).encode());
 
+        // 현재 페이지 상품에 대해서만 좋아요 여부 확인
+        Map<Long, Boolean> likeStatus = productLikeStatusResolver.resolve(userId,
+                page.getItems().stream().map(ProductResponseDTO::getProductId).toList());
 
-        return productEntities.stream()
-                .map(product -> {
-                    ProductResponseDTO responseDTO = new ProductResponseDTO(product);
-                    responseDTO.setIsLiked(likedProductIds != null && likedProductIds.contains(String.valueOf(product.getProductId())));
-                    return responseDTO;
-                })
-                .toList();
+        page.getItems().forEach(product -> product.setIsLiked(likeStatus.get(product.getProductId())));
+        return page;
     }
 
+    // 상세 정보는 로컬 -> 레디스 -> DB 순으로 조회
     public ProductDetailResponseDTO findProductDetail(Long productId) {
-        ProductEntity productEntity = productRepository.findByProductId(productId)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
+        ProductDetailResponseDTO cached = productDetailCache.get(productId);
 
-        // 조회 수 증가
-        productEntity.increaseViews();
+        // 조회 수 증가는 레디스에 누적 후 주기적으로 DB 반영 (row UPDATE 없음)
+        long unflushedViews = productViewCountBuffer.increment(productId);
+        trendingProductService.recordView(productId);
 
-        return new ProductDetailResponseDTO(productEntity);
+        // 아직 DB 에 반영되지 않은 증가분 (반영 중인 것 포함) 까지 합쳐서 응답
+        ProductDetailResponseDTO responseDTO = new ProductDetailResponseDTO(cached);
+        long persistedViews = responseDTO.getView() == null ? 0L : responseDTO.getView();
+        responseDTO.setView(persistedViews + unflushedViews);
+        return responseDTO;
     }
 
-    // 상태가 SELL인 전체 판매 물품 최신순 조회
-    // N+1 문제 발생 예상 지역
     public ProductResponseDTO findSellProduct(Long productId) {
-        ProductEntity productEntity = productRepository.findById(productId)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
-
-        return new ProductResponseDTO(productEntity);
+        return new ProductResponseDTO(productDetailCache.get(productId));
     }
 
 
@@ -0,0 +1,55 @@
+package com.trade_ham.domain.product.service;
+
+import com.trade_ham.domain.mypage.dto.TradeSummaryResponseDTO;
+import com.trade_ham.domain.product.repository.TradeRepository;
+import com.trade_ham.global.common.redis.RedisHashCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/*
+사용자별 거래 수 (레디스 해시 카운터)
+trade:count:{userId} -> { purchase, sale }
+
+- 거래 생성 시 구매자 purchase, 판매자 sale 을 커밋 후 증가
+- 해시가 없으면 (buyer_id, trade_id), (seller_id, trade_id) 인덱스로 세어 다시 채운다
+ */
+@Component
+public class TradeCounter {
+
+    public static final String COUNT_KEY_PREFIX = "trade:count:";
+    private static final String PURCHASE_FIELD = "purchase";
+    private static final String SALE_FIELD = "sale";
+
+    private final RedisHashCounter counter;
+    private final TradeRepository tradeRepository;
+
+    public TradeCounter(RedisTemplate<String, String> redisTemplate,
+                        RedisScript<Long> hashIncrementIfExistsScript,
+                        RedisScript<Long> counterSeedScript,
+                        RedisScript<Long> counterInvalidateScript,
+                        TradeRepository tradeRepository,
+                        @Value("${trade.count.ttl:1d}") Duration counterTtl) {
+        this.counter = new RedisHashCounter(redisTemplate, hashIncrementIfExistsScript, counterSeedScript,
+                counterInvalidateScript, COUNT_KEY_PREFIX, counterTtl);
+        this.tradeRepository = tradeRepository;
+    }
+
+    public TradeSummaryResponseDTO get(Long userId) {
+        Map<String, Long> counts = counter.get(userId, List.of(PURCHASE_FIELD, SALE_FIELD), () -> Map.of(
+                PURCHASE_FIELD, tradeRepository.countByBuyer_Id(userId),
+                SALE_FIELD, tradeRepository.countBySeller_Id(userId)));
+        return new TradeSummaryResponseDTO(counts.get(PURCHASE_FIELD), counts.get(SALE_FIELD));
+    }
+
+    // 거래 생성, 호출한 트랜잭션이 커밋된 후 반영
+    public void recordTrade(Long buyerId, Long sellerId) {
+        counter.increment(buyerId, PURCHASE_FIELD);
+        counter.increment(sellerId, SALE_FIELD);
+    }
+}
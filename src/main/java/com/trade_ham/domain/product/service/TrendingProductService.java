@@ -0,0 +1,131 @@
+package com.trade_ham.domain.product.service;
+
+import com.trade_ham.domain.product.dto.ProductResponseDTO;
+import com.trade_ham.domain.product.entity.ProductStatus;
+import com.trade_ham.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+인기 상품 랭킹
+조회/좋아요 이벤트를 시간 감쇠 점수로 레디스 sorted set 에 누적하고
+상위 N 개는 ZREVRANGE 로 바로 꺼낸다 (상품 테이블 ORDER BY 없음).
+주기적으로 점수를 재조정하고 SELL 이 아닌 상품은 랭킹에서 제거한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingProductService {
+
+    public static final String TRENDING_KEY = "product:trending";
+    public static final String TRENDING_LANDMARK_KEY = "product:trending:landmark";
+
+    public static final int MAX_TRENDING_SIZE = 50;
+    private static final double VIEW_WEIGHT = 1.0;
+    private static final double LIKE_WEIGHT = 5.0;
+    private static final double MIN_SCORE = 0.01;
+
+    private final ProductRepository productRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> trendingIncrementScript;
+    private final RedisScript<Long> trendingRescaleScript;
+
+    @Value("${product.trending.half-life:6h}")
+    private Duration halfLife;
+
+    @Value("${product.trending.max-entries:1000}")
+    private long maxEntries;
+
+    public void recordView(Long productId) {
+        increment(productId, VIEW_WEIGHT);
+    }
+
+    // 좋아요 취소는 음수 가중치
+    public void recordLike(Long productId, boolean like) {
+        increment(productId, like ? LIKE_WEIGHT : -LIKE_WEIGHT);
+    }
+
+    // 점수 순 상위 상품, 판매 중인 상품만 반환
+    public List<ProductResponseDTO> findTrendingProducts(int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_TRENDING_SIZE);
+        Set<String> rankedIds = redisTemplate.opsForZSet().reverseRange(TRENDING_KEY, 0, limit - 1);
+        if (rankedIds == null || rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> productIds = rankedIds.stream().map(Long::valueOf).toList();
+        Map<Long, ProductResponseDTO> products = productRepository.findResponsesByProductIdIn(productIds).stream()
+                .filter(product -> product.getStatus() == ProductStatus.SELL)
+                .collect(Collectors.toMap(ProductResponseDTO::getProductId, Function.identity()));
+
+        // 랭킹 순서 유지
+        return productIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${product.trending.rescale-interval-ms:600000}")
+    public void rescale() {
+        Long remaining = redisTemplate.execute(
+                trendingRescaleScript,
+                List.of(TRENDING_KEY, TRENDING_LANDMARK_KEY),
+                String.valueOf(nowSeconds()), String.valueOf(halfLife.toSeconds()),
+                String.valueOf(MIN_SCORE), String.valueOf(maxEntries)
+        );
+
+        int removed = removeNotSelling();
+        log.debug("trending products rescaled: {} entries, {} not selling removed", remaining, removed);
+    }
+
+    private int removeNotSelling() {
+        Set<String> members = redisTemplate.opsForZSet().range(TRENDING_KEY, 0, -1);
+        if (members == null || members.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> selling = new HashSet<>();
+        productRepository.findProductIdsByStatus(members.stream().map(Long::valueOf).toList(), ProductStatus.SELL)
+                .forEach(productId -> selling.add(String.valueOf(productId)));
+
+        Object[] stale = members.stream()
+                .filter(member -> !selling.contains(member))
+                .toArray();
+        if (stale.length > 0) {
+            redisTemplate.opsForZSet().remove(TRENDING_KEY, stale);
+        }
+        return stale.length;
+    }
+
+    // 랭킹 반영 실패가 조회/좋아요 요청을 실패시키지 않도록 한다
+    private void increment(Long productId, double weight) {
+        try {
+            redisTemplate.execute(
+                    trendingIncrementScript,
+                    List.of(TRENDING_KEY, TRENDING_LANDMARK_KEY),
+                    String.valueOf(productId), String.valueOf(weight),
+                    String.valueOf(nowSeconds()), String.valueOf(halfLife.toSeconds())
+            );
+        } catch (RuntimeException e) {
+            log.warn("failed to record trending event of product {}", productId, e);
+        }
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
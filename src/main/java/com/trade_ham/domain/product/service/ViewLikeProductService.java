@@ -1,17 +1,15 @@
 package com.trade_ham.domain.product.service;
 
 import com.trade_ham.domain.product.dto.ProductResponseDTO;
-import com.trade_ham.domain.product.entity.ProductEntity;
 import com.trade_ham.domain.product.repository.ProductRepository;
 import com.trade_ham.global.common.exception.ErrorCode;
 import com.trade_ham.global.common.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 
 @Service
@@ -20,51 +18,47 @@ public class ViewLikeProductService {
 
     private final ProductRepository productRepository;
     private final RedisTemplate<String, String> redisSetTemplate; // Set 타입 Redis 관리
+    private final RedisScript<Long> toggleLikeScript;
+    private final TrendingProductService trendingProductService;
 
 
     public static final String USER_LIKED_PRODUCTS_KEY_PREFIX = "user:like:products:";
+    public static final String PRODUCT_LIKED_USERS_KEY_PREFIX = "product:like:users:";
+    public static final String DIRTY_LIKE_PRODUCTS_KEY = "product:like:dirty";
 
 
     /*
     좋아요 클릭 이벤트
     레디스 : key=userId, value=set(유저가 좋아요를 누른 게시물)
-    사용자 좋아요 수를 올리고 레디스에 사용자가 좋아요 누른 게시물을 추가
+             key=productId, value=set(게시물에 좋아요를 누른 유저), 크기가 곧 좋아요 수
+    두 집합 변경과 DB 반영 대상 표시를 하나의 스크립트로 원자적으로 처리한다.
+    DB 의 likes 컬럼은 ProductLikeCountFlusher 가 주기적으로 반영한다.
      */
-    @Transactional
-    public void incrementLike(Long userId, Long productId) {
-        ProductEntity productEntity = productRepository.findById(productId)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
-
-        String userLikedProductsKey = USER_LIKED_PRODUCTS_KEY_PREFIX + userId;
-
-        Long temp_size = redisSetTemplate.opsForSet().size(userLikedProductsKey);
-
-        // 사용자가 좋아요한 게시물 목록에 추가
-        redisSetTemplate.opsForSet().add(userLikedProductsKey, String.valueOf(productId));
-
-        // 좋아요 이미 좋아요가 없을 때만 좋아요 증가 반영
-        if (!Objects.equals(temp_size, redisSetTemplate.opsForSet().size(userLikedProductsKey))) {
-            productEntity.increaseLikes();
-        }
-
+    public boolean incrementLike(Long userId, Long productId) {
+        return toggleLike(userId, productId, true);
     }
 
-    @Transactional
-    public void decrementLike(Long userId, Long productId) {
-        ProductEntity productEntity = productRepository.findById(productId)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
-
-        String userLikedProductsKey = USER_LIKED_PRODUCTS_KEY_PREFIX + userId;
+    public boolean decrementLike(Long userId, Long productId) {
+        return toggleLike(userId, productId, false);
+    }
 
-        Long temp_size = redisSetTemplate.opsForSet().size(userLikedProductsKey);
+    // 실제로 좋아요 상태가 바뀐 경우 true
+    private boolean toggleLike(Long userId, Long productId, boolean like) {
+        if (!productRepository.existsById(productId)) {
+            throw new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
 
-        // 사용자가 좋아요한 게시물 목록에서 제거
-        redisSetTemplate.opsForSet().remove(userLikedProductsKey, String.valueOf(productId));
+        Long changed = redisSetTemplate.execute(
+                toggleLikeScript,
+                List.of(USER_LIKED_PRODUCTS_KEY_PREFIX + userId, PRODUCT_LIKED_USERS_KEY_PREFIX + productId, DIRTY_LIKE_PRODUCTS_KEY),
+                String.valueOf(productId), String.valueOf(userId), like ? "1" : "0"
+        );
 
-        // 사용자가 좋아요한 게시물 목록에 있었을 때만 제거
-        if (!Objects.equals(temp_size, redisSetTemplate.opsForSet().size(userLikedProductsKey))) {
-            productEntity.decreaseLikes();
+        boolean isChanged = Long.valueOf(1L).equals(changed);
+        if (isChanged) {
+            trendingProductService.recordLike(productId, like);
         }
+        return isChanged;
     }
 
     public List<ProductResponseDTO> findUserLikeProducts(Long userId) {
@@ -82,14 +76,9 @@ public class ViewLikeProductService {
                 .map(Long::valueOf)
                 .toList();
 
-        List<ProductEntity> productEntities = productRepository.findAllById(productIds);
+        List<ProductResponseDTO> products = productRepository.findResponsesByProductIdIn(productIds);
 
-        return productEntities.stream()
-                .map(product -> {
-                    ProductResponseDTO responseDTO = new ProductResponseDTO(product);
-                    responseDTO.setIsLiked(true); // 사용자가 좋아요를 누른 게시물이므로 true로 설정
-                    return responseDTO;
-                })
-                .toList();
+        products.forEach(product -> product.setIsLiked(true)); // 사용자가 좋아요를 누른 게시물이므로 true로 설정
+        return products;
     }
 }
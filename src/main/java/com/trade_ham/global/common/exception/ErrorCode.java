@@ -13,6 +13,7 @@ public enum ErrorCode {
 
     // 403 Forbidden
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "접근이 거부되었습니다."),
+    RESERVATION_NOT_HELD(HttpStatus.FORBIDDEN, "RESERVATION_NOT_HELD", "구매 예약이 없거나 만료되었습니다."),
 
     // 404 Not Found
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "RESOURCE_NOT_FOUND", "리소스를 찾을 수 없습니다."),
@@ -23,6 +24,9 @@ public enum ErrorCode {
     // 409 Conflict
     INVALID_PRODUCT_STATE(HttpStatus.CONFLICT, "INVALID_PRODUCT_STATE", "상품 상태가 올바르지 않습니다."),
 
+    // 429 Too Many Requests
+    PURCHASE_IN_PROGRESS(HttpStatus.TOO_MANY_REQUESTS, "PURCHASE_IN_PROGRESS", "다른 사용자가 구매를 진행 중입니다. 잠시 후 다시 시도해주세요."),
+
     // 500 Internal Server Error
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "서버 에러가 발생했습니다."),
     NOTIFICATION_CREATION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "NOTIFICATION_CREATION_ERROR", "알림 생성에 실패했습니다.");
@@ -0,0 +1,14 @@
+package com.trade_ham.global.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public TooManyRequestsException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+}
@@ -0,0 +1,48 @@
+package com.trade_ham.global.common.pagination;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/*
+커서 기반 페이지 응답
+size + 1 건을 조회해서 다음 페이지 존재 여부를 판단한다.
+ */
+@Getter
+public class CursorResponse<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    private CursorResponse(List<T> items, String nextCursor, boolean hasNext) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    // 요청 페이지 크기를 1 ~ MAX_SIZE 로 제한
+    public static int normalizeSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    // rows 는 size + 1 건까지 조회된 결과
+    public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorResponse<>(rows, null, false);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorResponse<>(items, cursorOf.apply(items.get(size - 1)), true);
+    }
+
+    public <R> CursorResponse<R> map(Function<T, R> mapper) {
+        return new CursorResponse<>(items.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,27 @@
+package com.trade_ham.global.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/*
+id 하나로 정렬되는 목록용 keyset 커서
+클라이언트에는 Base64 URL 인코딩된 불투명 토큰으로만 전달한다.
+ */
+public final class IdCursor {
+
+    private IdCursor() {
+    }
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 토큰은 IllegalArgumentException -> 400 응답
+    public static Long decode(String token) {
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.trade_ham.global.common.redis;
+
+import com.trade_ham.global.common.transaction.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+DB 값을 캐시하는 레디스 해시 카운터 ({prefix}{id} -> field: count)
+- 증가/무효화는 커밋 후에 반영하고, 해시가 있을 때만 증가한다 (hincr-if-exists.lua)
+- 해시가 없으면 DB 에서 다시 계산해서 TTL 과 함께 채운다 (counter-seed.lua)
+- 증가/무효화 때마다 세대 키({prefix}gen:{id})를 올리고, 계산을 시작한 뒤 세대가 바뀌었으면
+  계산한 값을 저장하지 않는다 (계산 중에 커밋된 증가를 놓친 값이 남지 않도록)
+- 레디스 갱신 실패는 호출한 작업에 영향을 주지 않는다 (TTL 후 DB 기준으로 다시 계산)
+ */
+@Slf4j
+public class RedisHashCounter {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> incrementScript;
+    private final RedisScript<Long> seedScript;
+    private final RedisScript<Long> invalidateScript;
+    private final String keyPrefix;
+    private final String ttlMillis;
+
+    public RedisHashCounter(RedisTemplate<String, String> redisTemplate,
+                            RedisScript<Long> hashIncrementIfExistsScript,
+                            RedisScript<Long> counterSeedScript,
+                            RedisScript<Long> counterInvalidateScript,
+                            String keyPrefix,
+                            Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.incrementScript = hashIncrementIfExistsScript;
+        this.seedScript = counterSeedScript;
+        this.invalidateScript = counterInvalidateScript;
+        this.keyPrefix = keyPrefix;
+        this.ttlMillis = String.valueOf(ttl.toMillis());
+    }
+
+    // 캐시된 값이 없거나 필드가 빠져 있으면 loader 로 DB 에서 계산
+    public Map<String, Long> get(Long id, List<String> fields, Supplier<Map<String, Long>> loader) {
+        Map<String, String> cached = redisTemplate.<String, String>opsForHash().entries(key(id));
+        if (cached.keySet().containsAll(fields)) {
+            Map<String, Long> counts = new HashMap<>();
+            fields.forEach(field -> counts.put(field, Long.parseLong(cached.get(field))));
+            return counts;
+        }
+
+        // 세대는 DB 계산 전에 읽어야 계산 중에 생긴 증가를 알아챌 수 있다
+        String generation = redisTemplate.opsForValue().get(generationKey(id));
+        Map<String, Long> counts = loader.get();
+
+        List<String> args = new ArrayList<>();
+        args.add(generation == null ? "" : generation);
+        args.add(ttlMillis);
+        counts.forEach((field, count) -> {
+            args.add(field);
+            args.add(String.valueOf(count));
+        });
+        redisTemplate.execute(seedScript, List.of(key(id), generationKey(id)), args.toArray());
+        return counts;
+    }
+
+    public void increment(Long id, String field) {
+        afterCommit(() -> redisTemplate.execute(incrementScript,
+                List.of(key(id), generationKey(id)), ttlMillis, field));
+    }
+
+    // 다음 조회 때 DB 에서 다시 계산하도록 삭제
+    public void invalidate(Long id) {
+        afterCommit(() -> redisTemplate.execute(invalidateScript,
+                List.of(key(id), generationKey(id)), ttlMillis));
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.warn("failed to update redis counter {}", keyPrefix, e);
+            }
+        });
+    }
+
+    private String key(Long id) {
+        return keyPrefix + id;
+    }
+
+    private String generationKey(Long id) {
+        return keyPrefix + "gen:" + id;
+    }
+}
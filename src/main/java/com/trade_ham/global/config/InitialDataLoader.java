@@ -6,6 +6,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class InitialDataLoader implements CommandLineRunner {
@@ -14,8 +16,11 @@ public class InitialDataLoader implements CommandLineRunner {
 
     @Override
     public void run(String... args) {
-        lockerRepository.save(new LockerEntity("1", "1234", false));
-        lockerRepository.save(new LockerEntity("2", "1234", false));
-        lockerRepository.save(new LockerEntity("3", "1234", false));
+        // 한 번에 저장해서 batch INSERT 로 보낸다
+        lockerRepository.saveAll(List.of(
+                new LockerEntity("1", "1234", false),
+                new LockerEntity("2", "1234", false),
+                new LockerEntity("3", "1234", false)
+        ));
     }
 }
\ No newline at end of file
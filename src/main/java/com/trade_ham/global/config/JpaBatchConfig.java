@@ -0,0 +1,56 @@
+package com.trade_ham.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+JDBC batch insert/update 설정
+쓰기가 많은 엔티티는 SEQUENCE (pooled, allocationSize 50) 로 id 를 미리 받아 두므로
+IDENTITY 와 달리 INSERT 를 모아서 한 번에 보낼 수 있다.
+MySQL 은 시퀀스가 없어서 Hibernate 가 *_seq 테이블로 대신한다 (SequenceAligner 참고).
+
+- batch_size: 한 번에 보내는 statement 수
+- order_inserts/order_updates: 엔티티 종류별로 정렬해야 batch 가 끊기지 않는다
+- rewriteBatchedStatements: MySQL 드라이버가 batch 를 multi-row INSERT 한 문장으로 바꿔 보낸다
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${jpa.jdbc.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+            properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+
+    // 커넥션 풀이 시작되기 전에 드라이버 속성을 추가해야 하므로 BeanPostProcessor 로 설정
+    @Bean
+    public static BeanPostProcessor mysqlBatchRewritePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getJdbcUrl() != null
+                        && dataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+                    dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 시퀀스 테이블을 먼저 맞춰야 첫 INSERT 부터 기존 id 와 겹치지 않는다
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor sequenceAlignerDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor(SequenceAligner.class);
+    }
+}
@@ -2,10 +2,85 @@ package com.trade_ham.global.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 public class RedisConfig {
 
+    // 서버 간 이벤트 전달용 pub/sub 리스너 컨테이너
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    // 좋아요 등록/취소 + 상품 좋아요 수 변경을 원자적으로 처리
+    @Bean
+    public RedisScript<Long> toggleLikeScript() {
+        return RedisScript.of(new ClassPathResource("redis/toggle-like.lua"), Long.class);
+    }
+
+    // 좋아요 데이터 정합성 보정
+    @Bean
+    public RedisScript<Long> reconcileLikeScript() {
+        return RedisScript.of(new ClassPathResource("redis/reconcile-like.lua"), Long.class);
+    }
+
+    // 인기 상품 점수 증가 (시간 감쇠 적용)
+    @Bean
+    public RedisScript<Long> trendingIncrementScript() {
+        return RedisScript.of(new ClassPathResource("redis/trending-increment.lua"), Long.class);
+    }
+
+    // 인기 상품 점수 재조정
+    @Bean
+    public RedisScript<Long> trendingRescaleScript() {
+        return RedisScript.of(new ClassPathResource("redis/trending-rescale.lua"), Long.class);
+    }
+
+    // refresh 토큰 회전 + 재사용 감지 시 계열 폐기
+    @Bean
+    public RedisScript<Long> refreshRotateScript() {
+        return RedisScript.of(new ClassPathResource("redis/refresh-rotate.lua"), Long.class);
+    }
+
+    // DB 에서 다시 계산한 카운터 해시 저장 (세대가 그대로일 때만, TTL 포함)
+    @Bean
+    public RedisScript<Long> counterSeedScript() {
+        return RedisScript.of(new ClassPathResource("redis/counter-seed.lua"), Long.class);
+    }
+
+    // 카운터 삭제 + 세대 증가
+    @Bean
+    public RedisScript<Long> counterInvalidateScript() {
+        return RedisScript.of(new ClassPathResource("redis/counter-invalidate.lua"), Long.class);
+    }
+
+    // 캐시된 카운터 해시가 있을 때만 필드 증가
+    @Bean
+    public RedisScript<Long> hashIncrementIfExistsScript() {
+        return RedisScript.of(new ClassPathResource("redis/hincr-if-exists.lua"), Long.class);
+    }
+
+    // 조회 수 증가 + 미반영 증가분 (pending + flushing) 조회
+    @Bean
+    public RedisScript<Long> viewIncrementScript() {
+        return RedisScript.of(new ClassPathResource("redis/view-increment.lua"), Long.class);
+    }
+
+    // 조회 수 반영 시작 (pending -> flushing, flush id 발급)
+    @Bean
+    public RedisScript<String> viewFlushBeginScript() {
+        return RedisScript.of(new ClassPathResource("redis/view-flush-begin.lua"), String.class);
+    }
+
+    // 잠금/입장권 해제 (소유자 확인 후 삭제)
+    @Bean
+    public RedisScript<Long> lockReleaseScript() {
+        return RedisScript.of(new ClassPathResource("redis/lock-release.lua"), Long.class);
+    }
 }
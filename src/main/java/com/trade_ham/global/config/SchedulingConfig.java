@@ -0,0 +1,25 @@
+package com.trade_ham.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/*
+@Scheduled 실행 스레드 풀
+기본 스케줄러는 스레드가 하나라서 batch 사이에 쉬는 정리 작업 (알림 보관 기간 정리 등) 이 도는 동안
+outbox 발송, 예약 만료, 조회 수/좋아요 반영, SSE heartbeat 같은 짧은 주기 작업이 모두 멈춘다.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:8}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
@@ -0,0 +1,82 @@
+package com.trade_ham.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/*
+MySQL 시퀀스 테이블 (*_seq) 맞추기
+IDENTITY 에서 SEQUENCE 로 바꾸기 전에 AUTO_INCREMENT 로 만들어진 row 가 있으므로
+시퀀스 테이블의 next_val 을 기존 최대 id 보다 크게 올려서 id 충돌을 막는다.
+EntityManagerFactory 가 이 빈에 의존하므로 (JpaBatchConfig) JPA, 스케줄러, 웹 요청보다 먼저 실행된다.
+그래서 시퀀스 테이블이나 엔티티 테이블이 아직 없을 수도 있다 (첫 기동, ddl-auto 전).
+ */
+@Slf4j
+@Component
+public class SequenceAligner implements InitializingBean {
+
+    // pooled optimizer 는 next_val 아래 allocationSize 만큼의 id 도 쓸 수 있어서 그만큼 여유를 둔다
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final List<SequenceTable> SEQUENCES = List.of(
+            new SequenceTable("product_entity_seq", "product_entity", "product_id"),
+            new SequenceTable("trade_entity_seq", "trade_entity", "trade_id"),
+            new SequenceTable("notification_entity_seq", "notification_entity", "notification_id"),
+            new SequenceTable("notification_outbox_entity_seq", "notification_outbox_entity", "outbox_id"),
+            new SequenceTable("locker_entity_seq", "locker_entity", "locker_id")
+    );
+
+    // Hibernate 가 만드는 것과 같은 모양, 이미 있으면 ddl-auto 는 건드리지 않는다
+    private static final String CREATE_SQL = "CREATE TABLE IF NOT EXISTS %s (next_val BIGINT) ENGINE=InnoDB";
+    private static final String SEED_SQL =
+            "INSERT INTO %s (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM %s)";
+    private static final String ALIGN_SQL = "UPDATE %s SET next_val = GREATEST(next_val, ? + ? + 1)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    public SequenceAligner(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        // 실제 시퀀스가 있는 DB (H2 등) 는 테이블로 흉내 내지 않으므로 대상이 아니다
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+        }
+
+        for (SequenceTable sequence : SEQUENCES) {
+            jdbcTemplate.execute(CREATE_SQL.formatted(sequence.name()));
+            jdbcTemplate.update(SEED_SQL.formatted(sequence.name(), sequence.name()));
+            jdbcTemplate.update(ALIGN_SQL.formatted(sequence.name()), maxId(sequence), ALLOCATION_SIZE);
+            Long nextVal = jdbcTemplate.queryForObject("SELECT next_val FROM " + sequence.name(), Long.class);
+            log.info("aligned sequence {} to next_val={}", sequence.name(), nextVal);
+        }
+    }
+
+    // 엔티티 테이블이 아직 없으면 (ddl-auto 가 곧 만든다) 기존 id 도 없다
+    private long maxId(SequenceTable sequence) {
+        Integer tables = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+                Integer.class, sequence.table());
+        if (tables == null || tables == 0) {
+            return 0;
+        }
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(%s), 0) FROM %s".formatted(sequence.idColumn(), sequence.table()), Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    private record SequenceTable(String name, String table, String idColumn) {
+    }
+}
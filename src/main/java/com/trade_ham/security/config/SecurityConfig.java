@@ -1,11 +1,13 @@
 package com.trade_ham.security.config;
 
-import com.trade_ham.domain.auth.repository.RefreshRepository;
 import com.trade_ham.domain.auth.service.CustomOAuth2UserService;
+import com.trade_ham.domain.auth.service.RedisRefreshService;
 import com.trade_ham.security.handler.CustomSuccessHandler;
+import com.trade_ham.security.jwt.AccessTokenCache;
 import com.trade_ham.security.jwt.CustomLogoutFilter;
 import com.trade_ham.security.jwt.JWTFilter;
 import com.trade_ham.security.jwt.JWTUtil;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,7 +34,8 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomSuccessHandler customSuccessHandler;
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final AccessTokenCache accessTokenCache;
+    private final RedisRefreshService redisRefreshService;
 
     @Value("${front.server}")
     private String frontServer;
@@ -72,8 +75,8 @@ public class SecurityConfig {
         );
 
         // JWT 필터 설정
-        http.addFilterBefore(new JWTFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
-        http.addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshRepository), LogoutFilter.class);
+        http.addFilterBefore(new JWTFilter(accessTokenCache), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new CustomLogoutFilter(jwtUtil, redisRefreshService), LogoutFilter.class);
 
         // 세션 설정: STATELESS
         http.sessionManagement(session -> session.sessionCreationPolicy(STATELESS));
@@ -81,6 +84,9 @@ public class SecurityConfig {
         // 경로별 인가 작업
         http.securityMatcher("/**") // 모든 요청에 대해
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 종료/타임아웃 시의 async 재디스패치와 에러 디스패치는 JWTFilter 를 거치지 않으므로 허용
+                        // (요청 자체는 최초 REQUEST 디스패치에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers(WHITE_LIST_URL).permitAll()
                         .anyRequest().authenticated()
                 );
@@ -1,8 +1,6 @@
 package com.trade_ham.security.handler;
 
 import com.trade_ham.domain.auth.dto.CustomOAuth2User;
-import com.trade_ham.domain.auth.entity.RefreshEntity;
-import com.trade_ham.domain.auth.repository.RefreshRepository;
 import com.trade_ham.domain.auth.service.RedisRefreshService;
 import com.trade_ham.security.jwt.JWTUtil;
 import jakarta.servlet.ServletException;
@@ -19,7 +17,6 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Date;
 import java.util.Iterator;
 
 @Component
@@ -36,7 +33,6 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
     private String frontServer;
 
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
     private final RedisRefreshService redisRefreshService;
 
     @Override
@@ -56,10 +52,13 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
         // 토큰 생성
         String access = jwtUtil.createJwt("access", id, email, role, accessTokenExpirationTime);
-        String refresh = jwtUtil.createJwt("refresh", id, email, role, refreshTokenExpirationTime);
+        // 로그인마다 새 refresh 토큰 계열 시작
+        String familyId = RedisRefreshService.newTokenId();
+        String tokenId = RedisRefreshService.newTokenId();
+        String refresh = jwtUtil.createRefreshJwt(id, email, role, familyId, tokenId, refreshTokenExpirationTime);
 
         //Refresh 토큰 저장
-        addRefreshEntity(id, refresh, refreshTokenExpirationTime);
+        redisRefreshService.startFamily(id, familyId, tokenId, refreshTokenExpirationTime);
 
         //응답 설정
         response.setHeader("access", access); // 응답헤더에 엑세스 토큰
@@ -68,18 +67,6 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         response.sendRedirect(frontServer);
     }
 
-    private void addRefreshEntity(Long id, String refresh, Long expiredMs) {
-
-        Date date = new Date(System.currentTimeMillis() + expiredMs);
-
-        RefreshEntity refreshEntity = new RefreshEntity();
-        refreshEntity.setRefresh(refresh);
-        refreshEntity.setExpiration(date.toString());
-
-        redisRefreshService.saveRefreshToken(id, refresh, expiredMs);
-        refreshRepository.save(refreshEntity);
-    }
-
     private Cookie createCookie(String key, String value) {
 
         Cookie cookie = new Cookie(key, value);
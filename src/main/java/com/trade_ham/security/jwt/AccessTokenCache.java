@@ -0,0 +1,99 @@
+package com.trade_ham.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/*
+서명 검증이 끝난 access 토큰 캐시
+같은 토큰으로 들어오는 요청은 HMAC 검증 없이 캐시된 클레임을 사용한다.
+- 키: 토큰의 SHA-256 (원본 토큰은 메모리에 남기지 않음)
+- 만료: 항목마다 토큰의 exp 시각에 정확히 만료
+- 크기 제한: spring.jwt.cache.max-size, 초과 시 W-TinyLFU 로 제거
+spring.jwt.cache.enabled=false 이면 매 요청 파싱한다.
+ */
+@Component
+public class AccessTokenCache {
+
+    private final JWTUtil jwtUtil;
+    private final boolean enabled;
+    private final Cache<String, JwtClaims> cache;
+
+    public AccessTokenCache(JWTUtil jwtUtil,
+                            MeterRegistry meterRegistry,
+                            @Value("${spring.jwt.cache.enabled:true}") boolean enabled,
+                            @Value("${spring.jwt.cache.max-size:50000}") long maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtTokenExpiration())
+                .recordStats()
+                .build();
+
+        // 적중률: cache.gets{cache=accessToken,result=hit|miss}
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "accessToken");
+    }
+
+    /*
+    JWTUtil.parseClaims 와 같은 계약: 만료된 토큰은 ExpiredJwtException, 위변조된 토큰은 JwtException.
+    access 토큰만 캐시한다.
+     */
+    public JwtClaims parseClaims(String token) {
+        if (!enabled) {
+            return jwtUtil.parseClaims(token);
+        }
+
+        String key = hash(token);
+        JwtClaims cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiration().isAfter(Instant.now())) {
+            return cached;
+        }
+
+        // 캐시에 없거나 막 만료된 경우, 만료 토큰은 여기서 ExpiredJwtException 이 발생한다
+        JwtClaims claims = jwtUtil.parseClaims(token);
+        if (claims.isCategory("access")) {
+            cache.put(key, claims);
+        }
+        return claims;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class ExpireAtTokenExpiration implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            long remainingNanos = Duration.between(Instant.now(), claims.expiration()).toNanos();
+            return Math.max(remainingNanos, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package com.trade_ham.security.jwt;
 
 
-import com.trade_ham.domain.auth.repository.RefreshRepository;
+import com.trade_ham.domain.auth.service.RedisRefreshService;
+import com.trade_ham.domain.auth.service.RedisRefreshService.RotationResult;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,11 +18,11 @@ import java.io.IOException;
 public class CustomLogoutFilter extends GenericFilterBean {
 
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RedisRefreshService redisRefreshService;
 
-    public CustomLogoutFilter(JWTUtil jwtUtil, RefreshRepository refreshRepository) {
+    public CustomLogoutFilter(JWTUtil jwtUtil, RedisRefreshService redisRefreshService) {
         this.jwtUtil = jwtUtil;
-        this.refreshRepository = refreshRepository;
+        this.redisRefreshService = redisRefreshService;
     }
 
     @Override
@@ -58,9 +59,10 @@ public class CustomLogoutFilter extends GenericFilterBean {
             return;
         }
 
-        //expired check
+        //expired check, 서명 검증 + 파싱은 한 번만 수행
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(refresh);
+            claims = jwtUtil.parseClaims(refresh);
         } catch (ExpiredJwtException e) {
 
             //response status code
@@ -69,27 +71,22 @@ public class CustomLogoutFilter extends GenericFilterBean {
         }
 
         // 토큰이 refresh인지 확인 (발급시 페이로드에 명시)
-        String category = jwtUtil.getCategory(refresh);
-        if (!category.equals("refresh")) {
+        if (!claims.isCategory("refresh")) {
 
             //response status code
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
 
-        //DB에 저장되어 있는지 확인
-        Boolean isExist = refreshRepository.existsByRefresh(refresh);
-        if (!isExist) {
+        //로그아웃 진행
+        //Refresh 토큰 계열 레디스에서 제거, 현재 토큰이 아니면 (재사용) 계열만 폐기하고 실패 응답
+        if (redisRefreshService.revoke(claims) != RotationResult.ROTATED) {
 
             //response status code
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
 
-        //로그아웃 진행
-        //Refresh 토큰 DB에서 제거
-        refreshRepository.deleteByRefresh(refresh);
-
         //Refresh 토큰 Cookie 값 0
         Cookie cookie = new Cookie("refresh", null);
         cookie.setMaxAge(0);
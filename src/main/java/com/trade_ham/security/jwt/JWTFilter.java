@@ -18,10 +18,10 @@ import java.io.PrintWriter;
 
 public class JWTFilter extends OncePerRequestFilter {
 
-    private final JWTUtil jwtUtil;
+    private final AccessTokenCache accessTokenCache;
 
-    public JWTFilter(JWTUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    public JWTFilter(AccessTokenCache accessTokenCache) {
+        this.accessTokenCache = accessTokenCache;
     }
 
     @Override
@@ -43,9 +43,10 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 토큰 만료 여부 확인, 만료시 다음 필터로 넘기지 않음
+        // 서명 검증 + 클레임 파싱은 한 번만 수행 (검증된 토큰은 캐시), 만료시 다음 필터로 넘기지 않음
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(accessToken);
+            claims = accessTokenCache.parseClaims(accessToken);
         } catch (ExpiredJwtException e) {
 
             //response body
@@ -58,9 +59,7 @@ public class JWTFilter extends OncePerRequestFilter {
         }
 
         // 토큰이 access인지 확인 (발급시 페이로드에 명시)
-        String category = jwtUtil.getCategory(accessToken);
-
-        if (!category.equals("access")) {
+        if (!claims.isCategory("access")) {
 
             //response body
             PrintWriter writer = response.getWriter();
@@ -72,8 +71,8 @@ public class JWTFilter extends OncePerRequestFilter {
         }
 
         // username, role 값을 획득
-        Long id = jwtUtil.getId(accessToken);
-        Role role = Role.valueOf(jwtUtil.getRole(accessToken));
+        Long id = claims.id();
+        Role role = Role.valueOf(claims.role());
 
         UserDTO userDTO = new UserDTO();
         userDTO.setId(id);
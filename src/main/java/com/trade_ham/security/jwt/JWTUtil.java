@@ -1,5 +1,7 @@
 package com.trade_ham.security.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -12,44 +14,60 @@ import java.util.Date;
 @Component
 public class JWTUtil {
 
-    private SecretKey secretKey;
+    private final SecretKey secretKey;
+
+    // 파서는 불변 객체이므로 한 번만 만들어서 모든 요청이 공유한다
+    private final JwtParser jwtParser;
 
     public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
-    public Long getId(String token) {
-
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("id", Long.class);
-    }
-
-    public String getEmail(String token) {
-
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("email", String.class);
-    }
-
-    public String getRole(String token) {
-
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
-    }
-
-    public String getCategory(String token) {
-
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("category", String.class);
+    /*
+    서명 검증과 파싱을 한 번만 수행하고 필요한 클레임을 모두 꺼낸다.
+    만료된 토큰은 ExpiredJwtException, 위변조된 토큰은 JwtException 이 발생한다.
+     */
+    public JwtClaims parseClaims(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+
+        return new JwtClaims(
+                claims.get("category", String.class),
+                claims.get("id", Long.class),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration().toInstant(),
+                claims.getId(),
+                claims.get("family", String.class)
+        );
     }
 
-    public Boolean isExpired(String token) {
+    public String createJwt(String category, Long id, String email, String role, Long expiredMs) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        return Jwts.builder()
+                .claim("category", category)
+                .claim("id", id)
+                .claim("role", role)
+                .claim("email", email)
+                .issuedAt(new Date(System.currentTimeMillis()))
+                .expiration(new Date(System.currentTimeMillis() + expiredMs))
+                .signWith(secretKey)
+                .compact();
     }
 
-    public String createJwt(String category, Long id, String email, String role, Long expiredMs) {
+    /*
+    refresh 토큰은 토큰 id(jti)와 회전 계열(family) id 를 함께 담는다.
+    같은 로그인에서 재발급된 토큰은 모두 같은 family 를 가진다.
+     */
+    public String createRefreshJwt(Long id, String email, String role, String familyId, String tokenId, Long expiredMs) {
 
         return Jwts.builder()
-                .claim("category", category)
+                .id(tokenId)
+                .claim("category", "refresh")
                 .claim("id", id)
                 .claim("role", role)
                 .claim("email", email)
+                .claim("family", familyId)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiredMs))
                 .signWith(secretKey)
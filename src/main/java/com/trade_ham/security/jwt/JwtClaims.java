@@ -0,0 +1,13 @@
+package com.trade_ham.security.jwt;
+
+import java.time.Instant;
+
+// 서명 검증이 끝난 토큰의 클레임 (불변, 요청 처리 중 공유)
+// tokenId(jti), familyId 는 refresh 토큰에만 존재한다
+public record JwtClaims(String category, Long id, String email, String role, Instant expiration,
+                        String tokenId, String familyId) {
+
+    public boolean isCategory(String expected) {
+        return expected.equals(category);
+    }
+}
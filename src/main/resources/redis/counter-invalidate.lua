@@ -0,0 +1,8 @@
+-- 카운터 무효화, 다음 조회 때 DB 에서 다시 계산한다
+-- 세대 키를 올려서 무효화 전 기준으로 진행 중인 재계산 값이 저장되지 않게 한다
+-- KEYS[1] = 카운터 키
+-- KEYS[2] = 세대 키
+-- ARGV[1] = 세대 키 TTL (ms)
+redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[1])
+return redis.call('DEL', KEYS[1])
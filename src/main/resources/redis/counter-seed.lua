@@ -0,0 +1,17 @@
+-- DB 에서 다시 계산한 카운터 해시 저장 (필드별 HSETNX + TTL 을 한 번에)
+-- 계산을 시작할 때 읽은 세대에서 바뀌지 않았을 때만 저장한다 (그 사이 증가/무효화가 있었으면 버림)
+-- KEYS[1] = 카운터 해시 키
+-- KEYS[2] = 세대 키
+-- ARGV[1] = 계산 전에 읽은 세대 (없으면 빈 문자열)
+-- ARGV[2] = 해시 TTL (ms)
+-- ARGV[3..] = field, value 쌍
+-- 반환: 저장했으면 1, 아니면 0
+local generation = redis.call('GET', KEYS[2]) or ''
+if generation ~= ARGV[1] then
+    return 0
+end
+for i = 3, #ARGV, 2 do
+    redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+return 1
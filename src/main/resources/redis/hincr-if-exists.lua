@@ -0,0 +1,16 @@
+-- 해시가 있을 때만 필드를 1 증가 (없으면 다음 조회 때 DB 에서 다시 계산)
+-- 세대 키도 함께 올려서, 증가를 놓친 채 진행 중인 DB 재계산 값이 저장되지 않게 한다 (counter-seed.lua)
+-- KEYS[1] = 카운터 해시 키
+-- KEYS[2] = 세대 키
+-- ARGV[1] = 세대 키 TTL (ms)
+-- ARGV[2..] = 증가할 필드들
+-- 반환: 1 증가함, 0 해시 없음
+redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[1])
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+for i = 2, #ARGV do
+    redis.call('HINCRBY', KEYS[1], ARGV[i], 1)
+end
+return 1
@@ -0,0 +1,9 @@
+-- 잠금/입장권 해제, 내가 잡은 것일 때만 삭제
+-- (스케줄러 잠금, 구매 입장권 product:admission:{productId} 등)
+-- KEYS[1] = 잠금 키
+-- ARGV[1] = 잠금을 잡을 때 저장한 토큰
+-- 반환: 삭제했으면 1, 아니면 0
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
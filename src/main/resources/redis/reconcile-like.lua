@@ -0,0 +1,9 @@
+-- 사용자 좋아요 목록(원본)을 기준으로 상품 좋아요 사용자 집합을 맞춘다
+-- KEYS[1] = user:like:products:{userId}
+-- KEYS[2] = product:like:users:{productId}
+-- ARGV[1] = productId, ARGV[2] = userId
+-- 반환: 상품 집합이 수정되었으면 1, 아니면 0
+if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+    return redis.call('SADD', KEYS[2], ARGV[2])
+end
+return redis.call('SREM', KEYS[2], ARGV[2])
@@ -0,0 +1,20 @@
+-- refresh 토큰 회전/폐기
+-- KEYS[1] = refresh:{userId}:{familyId} (값 = 현재 유효한 토큰 id)
+-- ARGV[1] = 제시된 토큰 id, ARGV[2] = 새 토큰 id ('' 이면 로그아웃: 계열 폐기), ARGV[3] = TTL(ms)
+-- 반환: 1 성공, 0 계열 없음(만료/로그아웃), -1 이미 회전된 토큰 재사용 -> 계열 전체 폐기
+local current = redis.call('GET', KEYS[1])
+if not current then
+    return 0
+end
+
+if current ~= ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    return -1
+end
+
+if ARGV[2] == '' then
+    redis.call('DEL', KEYS[1])
+else
+    redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+end
+return 1
@@ -0,0 +1,23 @@
+-- 좋아요 등록/취소를 한 번에 처리
+-- KEYS[1] = user:like:products:{userId}   (사용자가 좋아요한 상품)
+-- KEYS[2] = product:like:users:{productId} (상품에 좋아요한 사용자, SCARD = 좋아요 수)
+-- KEYS[3] = product:like:dirty             (DB 반영이 필요한 상품)
+-- ARGV[1] = productId, ARGV[2] = userId, ARGV[3] = '1' 등록 / '0' 취소
+-- 반환: 실제로 상태가 바뀌었으면 1, 아니면 0
+local changed
+if ARGV[3] == '1' then
+    changed = redis.call('SADD', KEYS[1], ARGV[1])
+    if changed == 1 then
+        redis.call('SADD', KEYS[2], ARGV[2])
+    end
+else
+    changed = redis.call('SREM', KEYS[1], ARGV[1])
+    if changed == 1 then
+        redis.call('SREM', KEYS[2], ARGV[2])
+    end
+end
+
+if changed == 1 then
+    redis.call('SADD', KEYS[3], ARGV[1])
+end
+return changed
@@ -0,0 +1,15 @@
+-- 인기 상품 점수 증가 (forward decay)
+-- 점수 = 가중치 * 2^((now - landmark) / halfLife)
+-- 최근 이벤트일수록 큰 값이 더해지고, 주기적인 rescale 이 landmark 를 현재로 당긴다.
+-- KEYS[1] = product:trending, KEYS[2] = product:trending:landmark
+-- ARGV[1] = productId, ARGV[2] = 가중치, ARGV[3] = 현재 시각(초), ARGV[4] = 반감기(초)
+local now = tonumber(ARGV[3])
+local landmark = tonumber(redis.call('GET', KEYS[2]))
+if not landmark then
+    landmark = now
+    redis.call('SET', KEYS[2], ARGV[3])
+end
+
+local boost = tonumber(ARGV[2]) * math.pow(2, (now - landmark) / tonumber(ARGV[4]))
+redis.call('ZINCRBY', KEYS[1], string.format('%.17g', boost), ARGV[1])
+return 1
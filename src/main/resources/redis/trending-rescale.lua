@@ -0,0 +1,22 @@
+-- 인기 상품 점수 재조정
+-- 모든 점수에 2^(-(now - landmark) / halfLife) 를 곱해 landmark 를 현재 시각으로 옮기고
+-- 의미 없는 점수와 최대 개수를 넘는 하위 항목을 제거한다.
+-- KEYS[1] = product:trending, KEYS[2] = product:trending:landmark
+-- ARGV[1] = 현재 시각(초), ARGV[2] = 반감기(초), ARGV[3] = 최소 점수, ARGV[4] = 최대 개수
+-- 반환: 남은 항목 수
+local now = tonumber(ARGV[1])
+local landmark = tonumber(redis.call('GET', KEYS[2]))
+if landmark and now > landmark then
+    local factor = math.pow(2, -(now - landmark) / tonumber(ARGV[2]))
+    redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', string.format('%.17g', factor))
+end
+redis.call('SET', KEYS[2], ARGV[1])
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3])
+
+local maxSize = tonumber(ARGV[4])
+local size = redis.call('ZCARD', KEYS[1])
+if size > maxSize then
+    redis.call('ZREMRANGEBYRANK', KEYS[1], 0, size - maxSize - 1)
+end
+return redis.call('ZCARD', KEYS[1])
@@ -0,0 +1,20 @@
+-- 조회 수 반영 시작, 반영할 flushing 해시의 flush id 를 반환 (반영할 것이 없으면 nil)
+-- 이전 주기에 남은 flushing 해시가 있으면 그 id 를 그대로 쓴다 (같은 id 는 DB 에 한 번만 반영)
+-- KEYS[1] = product:views:pending
+-- KEYS[2] = product:views:flushing
+-- KEYS[3] = product:views:flushing:id
+-- ARGV[1] = 새 flush id
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    if redis.call('EXISTS', KEYS[1]) == 0 then
+        return false
+    end
+    redis.call('RENAME', KEYS[1], KEYS[2])
+    redis.call('SET', KEYS[3], ARGV[1])
+    return ARGV[1]
+end
+local flushId = redis.call('GET', KEYS[3])
+if not flushId then
+    redis.call('SET', KEYS[3], ARGV[1])
+    return ARGV[1]
+end
+return flushId
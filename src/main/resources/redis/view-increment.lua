@@ -0,0 +1,7 @@
+-- 조회 수 1 증가, 아직 DB 에 반영되지 않은 증가분 (pending + 반영 중인 flushing) 을 반환
+-- KEYS[1] = product:views:pending
+-- KEYS[2] = product:views:flushing
+-- ARGV[1] = productId
+local pending = redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+local flushing = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0')
+return pending + flushing
@@ -0,0 +1,128 @@
+package com.trade_ham.domain.locker.service;
+
+import com.trade_ham.domain.locker.entity.LockerEntity;
+import com.trade_ham.domain.locker.repository.LockerRepository;
+import com.trade_ham.global.common.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+사물함 할당 동시성 테스트 (./gradlew loadTest, MySQL/Redis 필요)
+동시에 수백 건의 할당이 몰려도 같은 사물함이 두 번 할당되지 않는지 확인
+locker:free 목록과 실제 사물함을 사용하므로, 테스트 전에 비어 있던 사물함은 끝나고 모두 되돌린다.
+ */
+@Tag("load")
+@SpringBootTest
+class LockerAllocatorConcurrencyTest {
+
+    private static final int LOCKER_COUNT = 50;
+    private static final int PURCHASE_COUNT = 200;
+
+    @Autowired
+    private LockerAllocator lockerAllocator;
+
+    @Autowired
+    private LockerRepository lockerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final List<Long> createdLockerIds = new ArrayList<>();
+    private List<Long> availableBefore;
+    private TransactionTemplate transactionTemplate;
+    private int poolSize;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        availableBefore = lockerRepository.findAvailableIds();
+        for (int i = 0; i < LOCKER_COUNT; i++) {
+            createdLockerIds.add(lockerRepository.save(new LockerEntity("T" + i, "0000", true)).getId());
+        }
+        poolSize = lockerAllocator.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        lockerRepository.deleteAllById(createdLockerIds);
+        // 테스트 중 할당된 기존 사물함을 다시 사용 가능으로 되돌린 뒤 목록 재구성
+        transactionTemplate.executeWithoutResult(status -> availableBefore.forEach(lockerRepository::release));
+        lockerAllocator.rebuild();
+    }
+
+    @Test
+    void allocatesDistinctLockersUnderContention() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(PURCHASE_COUNT);
+
+        Set<Long> allocated = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicated = new AtomicInteger();
+        AtomicInteger exhausted = new AtomicInteger();
+
+        for (int i = 0; i < PURCHASE_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    LockerEntity locker = transactionTemplate.execute(status -> lockerAllocator.allocate());
+                    if (!allocated.add(locker.getId())) {
+                        duplicated.incrementAndGet();
+                    }
+                } catch (ResourceNotFoundException e) {
+                    exhausted.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        int expectedAllocations = Math.min(poolSize, PURCHASE_COUNT);
+        assertThat(duplicated.get()).isZero();
+        assertThat(allocated).hasSize(expectedAllocations);
+        assertThat(exhausted.get()).isEqualTo(PURCHASE_COUNT - expectedAllocations);
+        assertThat(lockerRepository.findAllById(allocated))
+                .allSatisfy(locker -> assertThat(locker.getLockerStatus()).isFalse());
+    }
+
+    @Test
+    void returnsLockerToPoolOnRollback() {
+        Long rolledBack = transactionTemplate.execute(status -> {
+            Long lockerId = lockerAllocator.allocate().getId();
+            status.setRollbackOnly();
+            return lockerId;
+        });
+
+        assertThat(lockerRepository.findById(rolledBack).orElseThrow().getLockerStatus()).isTrue();
+        assertThat(redisTemplate.opsForList().range(LockerAllocator.FREE_LOCKERS_KEY, 0, -1))
+                .contains(String.valueOf(rolledBack))
+                .hasSize(poolSize);
+    }
+}
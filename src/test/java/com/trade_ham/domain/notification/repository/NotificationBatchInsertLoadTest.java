@@ -0,0 +1,113 @@
+package com.trade_ham.domain.notification.repository;
+
+import com.trade_ham.domain.auth.entity.UserEntity;
+import com.trade_ham.domain.auth.repository.UserRepository;
+import com.trade_ham.domain.notification.entity.NotificationEntity;
+import com.trade_ham.domain.notification.entity.NotificationType;
+import com.trade_ham.global.common.enums.Provider;
+import com.trade_ham.global.common.enums.Role;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+알림 INSERT 처리량 부하 테스트 (./gradlew loadTest)
+같은 수의 알림을 JDBC batch 크기 1 (IDENTITY 를 쓰던 때처럼 row 마다 왕복) 과
+50 (SEQUENCE pooled id + batch INSERT) 으로 저장해서 초당 INSERT 수를 비교한다.
+ */
+@Tag("load")
+@SpringBootTest
+class NotificationBatchInsertLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationBatchInsertLoadTest.class);
+    private static final int ROW_COUNT = 10_000;
+    private static final int WARMUP_ROW_COUNT = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        user = new UserEntity();
+        user.setEmail("batch-insert@test.com");
+        user.setProvider(Provider.KAKAO);
+        user.setNickname("batch");
+        user.setRole(Role.USER);
+        user = userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM notification_entity WHERE id = ?", user.getId());
+        userRepository.delete(user);
+    }
+
+    @Test
+    void batchedInsertsOutperformRowByRowInserts() {
+        insert(WARMUP_ROW_COUNT, 50);
+
+        double rowByRow = insert(ROW_COUNT, 1);
+        double batched = insert(ROW_COUNT, 50);
+
+        log.info("notification inserts: rows={}, batch size 1 = {} rows/s, batch size 50 = {} rows/s ({}x)",
+                ROW_COUNT, Math.round(rowByRow), Math.round(batched), String.format("%.1f", batched / rowByRow));
+
+        assertThat(batched).isGreaterThan(rowByRow);
+    }
+
+    // 한 트랜잭션에서 rowCount 개 저장, 초당 INSERT 수를 반환
+    private double insert(int rowCount, int batchSize) {
+        long startedAt = System.nanoTime();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(batchSize);
+
+            UserEntity owner = entityManager.getReference(UserEntity.class, user.getId());
+            for (int i = 0; i < rowCount; i++) {
+                entityManager.persist(NotificationEntity.builder()
+                        .user(owner)
+                        .message("batch insert " + i)
+                        .type(NotificationType.PRODUCT_SOLD)
+                        .build());
+
+                // 영속성 컨텍스트가 커지지 않도록 주기적으로 비운다
+                if ((i + 1) % 500 == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        return rowCount / elapsedSeconds;
+    }
+}
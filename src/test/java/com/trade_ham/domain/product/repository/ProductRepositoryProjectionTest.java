@@ -0,0 +1,126 @@
+package com.trade_ham.domain.product.repository;
+
+import com.trade_ham.domain.auth.entity.UserEntity;
+import com.trade_ham.domain.locker.entity.LockerEntity;
+import com.trade_ham.domain.product.dto.ProductResponseDTO;
+import com.trade_ham.domain.product.entity.ProductEntity;
+import com.trade_ham.domain.product.entity.ProductStatus;
+import com.trade_ham.global.common.enums.Provider;
+import com.trade_ham.global.common.enums.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록 조회가 연관 엔티티 로딩 없이 SQL 한 번으로 끝나는지 확인
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProductRepositoryProjectionTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long sellerId;
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        UserEntity seller = createUser("seller@test.com");
+        UserEntity buyer = createUser("buyer@test.com");
+        LockerEntity locker = entityManager.persist(new LockerEntity("1", "1234", false));
+
+        for (int i = 0; i < 5; i++) {
+            ProductEntity product = entityManager.persist(ProductEntity.builder()
+                    .seller(seller)
+                    .buyer(i == 0 ? buyer : null)
+                    .lockerEntity(i == 0 ? locker : null)
+                    .name("상품" + i)
+                    .description("설명" + i)
+                    .price(1000L * i)
+                    .status(ProductStatus.SELL)
+                    .build());
+            productIds.add(product.getProductId());
+        }
+        sellerId = seller.getId();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void sellFeedFirstPageIsSingleQuery() {
+        List<ProductResponseDTO> rows = productRepository.findFirstPageByStatus(ProductStatus.SELL, PageRequest.of(0, 3));
+
+        assertThat(rows).hasSize(3);
+        assertSingleQueryWithoutEntities();
+    }
+
+    @Test
+    void sellFeedNextPageIsSingleQuery() {
+        ProductResponseDTO last = productRepository.findFirstPageByStatus(ProductStatus.SELL, PageRequest.of(0, 3)).get(2);
+        statistics.clear();
+
+        List<ProductResponseDTO> rows = productRepository.findPageByStatusAfter(
+                ProductStatus.SELL, last.getCreatedAt(), last.getProductId(), PageRequest.of(0, 3));
+
+        assertThat(rows).hasSize(2);
+        assertSingleQueryWithoutEntities();
+    }
+
+    @Test
+    void sellerProductsIsSingleQuery() {
+        List<ProductResponseDTO> rows = productRepository.findResponsesBySellerId(sellerId);
+
+        assertThat(rows).hasSize(5);
+        assertSingleQueryWithoutEntities();
+    }
+
+    @Test
+    void likedProductsIsSingleQuery() {
+        List<ProductResponseDTO> rows = productRepository.findResponsesByProductIdIn(productIds.subList(0, 2));
+
+        assertThat(rows).hasSize(2);
+        assertSingleQueryWithoutEntities();
+    }
+
+    @Test
+    void searchIndexSourceIsSingleQuery() {
+        List<ProductResponseDTO> rows = productRepository.findResponsesByStatus(ProductStatus.SELL);
+
+        assertThat(rows).hasSize(5);
+        assertSingleQueryWithoutEntities();
+    }
+
+    private void assertSingleQueryWithoutEntities() {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private UserEntity createUser(String email) {
+        UserEntity user = new UserEntity();
+        user.setEmail(email);
+        user.setNickname(email);
+        user.setProvider(Provider.KAKAO);
+        user.setRole(Role.USER);
+        return entityManager.persist(user);
+    }
+}
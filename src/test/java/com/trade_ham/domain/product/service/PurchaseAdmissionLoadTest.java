@@ -0,0 +1,169 @@
+package com.trade_ham.domain.product.service;
+
+import com.trade_ham.domain.auth.entity.UserEntity;
+import com.trade_ham.domain.auth.repository.UserRepository;
+import com.trade_ham.domain.product.entity.ProductEntity;
+import com.trade_ham.domain.product.entity.ProductStatus;
+import com.trade_ham.domain.product.repository.ProductRepository;
+import com.trade_ham.global.common.enums.Provider;
+import com.trade_ham.global.common.enums.Role;
+import com.trade_ham.global.common.exception.InvalidProductStateException;
+import com.trade_ham.global.common.exception.TooManyRequestsException;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+인기 상품 구매 폭주 부하 테스트 (./gradlew loadTest)
+500 명이 같은 상품의 구매 페이지에 동시에 들어올 때
+- 한 명만 구매 예약에 성공하고 나머지는 DB 커넥션을 기다리지 않고 거절되는지
+- 응답 시간 p50/p99 와 커넥션 풀 사용량(최대 active, 최대 대기 스레드)을 기록
+ */
+@Tag("load")
+@SpringBootTest
+class PurchaseAdmissionLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PurchaseAdmissionLoadTest.class);
+    private static final int BUYER_COUNT = 500;
+
+    @Autowired
+    private PurchaseAdmissionGate purchaseAdmissionGate;
+
+    @Autowired
+    private PurchaseProductService purchaseProductService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private UserEntity seller;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        seller = new UserEntity();
+        seller.setEmail("load-seller@test.com");
+        seller.setProvider(Provider.KAKAO);
+        seller.setNickname("seller");
+        seller.setRole(Role.USER);
+        seller = userRepository.save(seller);
+
+        productId = productRepository.save(ProductEntity.builder()
+                .seller(seller)
+                .name("한정판")
+                .description("부하 테스트 상품")
+                .price(10000L)
+                .status(ProductStatus.SELL)
+                .build()).getProductId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(PurchaseAdmissionGate.ADMISSION_KEY_PREFIX + productId);
+        redisTemplate.delete(ProductReservationService.RESERVATION_KEY_PREFIX + productId);
+        redisTemplate.opsForZSet().remove(ProductReservationService.RESERVATION_EXPIRY_KEY, String.valueOf(productId));
+        productRepository.deleteById(productId);
+        userRepository.delete(seller);
+    }
+
+    @Test
+    void onlyOneBuyerReachesDatabaseUnderPurchaseStorm() throws InterruptedException, SQLException {
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        AtomicInteger maxActive = new AtomicInteger();
+        AtomicInteger maxAwaiting = new AtomicInteger();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            maxActive.accumulateAndGet(pool.getActiveConnections(), Math::max);
+            maxAwaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+        }, 0, 1, TimeUnit.MILLISECONDS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(BUYER_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(BUYER_COUNT);
+        long[] latencies = new long[BUYER_COUNT];
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+
+        for (int i = 0; i < BUYER_COUNT; i++) {
+            int index = i;
+            long buyerId = i + 1;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    long startedAt = System.nanoTime();
+                    try {
+                        purchaseAdmissionGate.enter(productId, buyerId,
+                                () -> purchaseProductService.purchaseProduct(productId, buyerId));
+                        admitted.incrementAndGet();
+                    } catch (TooManyRequestsException e) {
+                        rejected.incrementAndGet();
+                    } catch (InvalidProductStateException e) {
+                        conflicted.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - startedAt;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        sampler.shutdown();
+
+        Arrays.sort(latencies);
+        log.info("purchase storm: buyers={}, admitted={}, rejected={}, conflicted={}, p50={}ms, p99={}ms, max={}ms, " +
+                        "pool(max active={}, max awaiting={}, size={})",
+                BUYER_COUNT, admitted.get(), rejected.get(), conflicted.get(),
+                toMillis(percentile(latencies, 0.50)), toMillis(percentile(latencies, 0.99)),
+                toMillis(latencies[latencies.length - 1]),
+                maxActive.get(), maxAwaiting.get(), pool.getTotalConnections());
+
+        assertThat(admitted.get()).isEqualTo(1);
+        assertThat(admitted.get() + rejected.get() + conflicted.get()).isEqualTo(BUYER_COUNT);
+        assertThat(maxAwaiting.get()).isZero();
+        assertThat(productRepository.findById(productId).orElseThrow().getStatus()).isEqualTo(ProductStatus.CHECK);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}